@@ -13,8 +13,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-
 /**
  * JWT Authentication Filter for API Gateway
  */
@@ -25,30 +23,8 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
     @Autowired
     private JwtUtil jwtUtil;
 
-    private static final List<String> PUBLIC_URLS = List.of(
-
-            // ==================== USER SERVICE ====================
-            // Public endpoints
-            "/api/users/register",
-            "/api/users/auth/login",
-            "/api/users/auth/logout",
-
-            // ==================== COURSE SERVICE ====================
-
-            "/api/courses/details/",
-            "/api/courses/published",
-            "/api/courses/category/",
-            "/api/courses/level/",
-            "/api/courses/search",
-            "/api/courses/instructor/",
-            "/api/courses/count",
-            "/api/courses/exists/",
-
-            // ==================== ENROLLMENT SERVICE ====================
-            "/api/enrollments/course/",
-
-            // ==================== SYSTEM ====================
-            "/actuator");
+    @Autowired
+    private PublicRouteMatcher publicRouteMatcher;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
@@ -58,33 +34,10 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         log.info("Processing request: {} {}", method, path);
 
-        if (path.equals("/api/courses") && "GET".equals(method)) {
-            log.info("Public endpoint accessed: GET {}", path);
-            return chain.filter(exchange);
-        }
-
-        // Skip JWT validation for other public endpoints
-        if (isPublicEndpoint(path)) {
-            log.info("Public endpoint accessed: {}", path);
-            return chain.filter(exchange);
-        }
-
-        // Allow service-to-service calls for lesson metadata (Progress Service calling
-        // Course Service)
-        // Pattern: /api/courses/{id}/lesson-count or
-        // /api/courses/{id}/modules/{moduleIndex}/lessons/{lessonIndex}
-        if (path.matches("/api/courses/[a-f0-9]{24}/lesson-count") ||
-                path.matches("/api/courses/[a-f0-9]{24}/modules/\\d+/lessons/\\d+")) {
-            log.info("Service-to-service endpoint accessed: {}", path);
-            return chain.filter(exchange);
-        }
-
-        // Allow service-to-service calls for enrollment details (Progress Service
-        // calling Enrollment Service)
-        // Pattern: /api/enrollments/{mongodbId} - only match MongoDB ObjectId format
-        // (24 hex characters)
-        if (path.matches("/api/enrollments/[a-f0-9]{24}") && "GET".equals(method)) {
-            log.info("Service-to-service endpoint accessed: GET {}", path);
+        // Skip JWT validation for public and service-to-service endpoints
+        // (rules live under gateway.security.public-routes in application.yml)
+        if (publicRouteMatcher.isPublic(request.getMethod(), path)) {
+            log.info("Public endpoint accessed: {} {}", method, path);
             return chain.filter(exchange);
         }
 
@@ -104,62 +57,35 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         String token = authHeader.substring(7);
 
-        // REACTIVE JWT VALIDATION
-
-        return jwtUtil.validateToken(token)
-                .flatMap(isValid -> {
-                    if (!isValid) {
-                        log.error("Invalid or expired JWT token");
-                        return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
-                    }
-
-                    // Extract username reactively
-                    return jwtUtil.extractUsername(token)
-                            .flatMap(username -> jwtUtil.extractRole(token)
-                                    .flatMap(role -> jwtUtil.extractFirstName(token)
-                                            .flatMap(firstName -> jwtUtil.extractLastName(token)
-                                                    .flatMap(lastName -> {
-                                                        log.info(
-                                                                "JWT token validated successfully for user: {} ({} {}) with role: {}",
-                                                                username, firstName, lastName, role);
-
-                                                        // Add user information to request headers for downstream
-                                                        // services
-                                                        ServerHttpRequest modifiedRequest = exchange.getRequest()
-                                                                .mutate()
-                                                                .header("X-User-Email", username)
-                                                                .header("X-User-Role", role)
-                                                                .header("X-User-FirstName", firstName)
-                                                                .header("X-User-LastName", lastName)
-                                                                .build();
-
-                                                        return chain.filter(
-                                                                exchange.mutate().request(modifiedRequest).build());
-                                                    }))));
-                })
+        // REACTIVE JWT VALIDATION - token is verified once, claims come back as one record
+
+        return jwtUtil.validateAndExtract(token)
+                .map(claims -> withUserHeaders(exchange, claims))
                 .onErrorResume(e -> {
-                    // Catch any errors and return 401
+                    // Invalid, expired or tampered token - return 401 and stop the chain
                     log.error("JWT validation error: {}", e.getMessage());
-                    return onError(exchange, "JWT validation failed", HttpStatus.UNAUTHORIZED);
-                });
+                    return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED)
+                            .then(Mono.empty());
+                })
+                .flatMap(chain::filter);
     }
 
     /**
-     * Check if the request path is a public endpoint
-     * Uses exact match OR startsWith for paths ending with '/'
+     * Add user information to request headers for downstream services
      */
-    private boolean isPublicEndpoint(String path) {
-        return PUBLIC_URLS.stream()
-                .anyMatch(publicUrl -> {
-                    // If public URL ends with '/', it's a prefix match (e.g.,
-                    // "/api/courses/details/")
-                    if (publicUrl.endsWith("/")) {
-                        return path.startsWith(publicUrl);
-                    }
-                    // Otherwise, exact match only (e.g., "/api/courses/published")
-                    // BUT also allow with trailing slash
-                    return path.equals(publicUrl) || path.equals(publicUrl + "/");
-                });
+    private ServerWebExchange withUserHeaders(ServerWebExchange exchange, JwtClaims claims) {
+        log.info("JWT token validated successfully for user: {} ({} {}) with role: {}",
+                claims.getUsername(), claims.getFirstName(), claims.getLastName(), claims.getRole());
+
+        ServerHttpRequest modifiedRequest = exchange.getRequest()
+                .mutate()
+                .header("X-User-Email", claims.getUsername())
+                .header("X-User-Role", claims.getRole())
+                .header("X-User-FirstName", claims.getFirstName())
+                .header("X-User-LastName", claims.getLastName())
+                .build();
+
+        return exchange.mutate().request(modifiedRequest).build();
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.elearning.gateway.security;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+/**
+ * Verified JWT claims
+ *
+ * Immutable snapshot of everything the gateway needs from a token,
+ * produced once per token by JwtUtil and shared through the claims cache
+ */
+@Value
+@Builder
+public class JwtClaims {
+
+    String username;
+    String role;
+    String firstName;
+    String lastName;
+    Date expiration;
+}
@@ -1,119 +1,122 @@
 package com.elearning.gateway.security;
 
+import com.elearning.jwt.JwtKeyring;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.util.Base64;
-import java.util.Date;
-import java.util.function.Function;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Utility Service for API Gateway (REACTIVE VERSION)
- * 
- * Validates JWT tokens and extracts user information
+ *
+ * Validates JWT tokens and extracts user information.
+ * A token is verified once and its claims are cached (keyed by a SHA-256
+ * digest of the token) until the token expires, so repeated requests with
+ * the same bearer token skip the signature check entirely.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final MeterRegistry meterRegistry;
+    private final JwtKeyring keyring;
 
-    /**
-     * Extract username (email) from JWT token
-     */
-    public Mono<String> extractUsername(String token) {
-        return Mono.fromCallable(() -> extractClaim(token, Claims::getSubject));
-    }
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
 
-    /**
-     * Extract role from JWT token
-     */
-    public Mono<String> extractRole(String token) {
-        return Mono.fromCallable(() -> {
-            Claims claims = extractAllClaims(token);
-            return claims.get("role", String.class);
-        });
-    }
+    private Cache<String, JwtClaims> claimsCache;
 
     /**
-     * Extract first name from JWT token
+     * Build the claims cache once at startup
      */
-    public Mono<String> extractFirstName(String token) {
-        return Mono.fromCallable(() -> {
-            Claims claims = extractAllClaims(token);
-            return claims.get("firstName", String.class);
-        });
-    }
+    @PostConstruct
+    void init() {
+        // Each entry lives exactly as long as the token it was verified from
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new TokenLifetimeExpiry())
+                .recordStats()
+                .build();
 
-    /**
-     * Extract last name from JWT token
-     */
-    public Mono<String> extractLastName(String token) {
-        return Mono.fromCallable(() -> {
-            Claims claims = extractAllClaims(token);
-            return claims.get("lastName", String.class);
-        });
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
     }
 
     /**
-     * Extract expiration date from JWT token
+     * Expire cached claims at the token's own exp instant
      */
-    public Mono<Date> extractExpiration(String token) {
-        return Mono.fromCallable(() -> extractClaim(token, Claims::getExpiration));
-    }
+    private static class TokenLifetimeExpiry implements Expiry<String, JwtClaims> {
 
-    /**
-     * Extract specific claim from JWT token
-     */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
+        @Override
+        public long expireAfterCreate(String digest, JwtClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
 
-    /**
-     * Extract all claims from JWT token
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        @Override
+        public long expireAfterUpdate(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
     /**
-     * Check if token is expired
+     * Validate JWT token and extract all claims in one pass
+     *
+     * Errors with a JwtException if the token is malformed, has a bad
+     * signature or is expired
      */
-    private Boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
+    public Mono<JwtClaims> validateAndExtract(String token) {
+        return Mono.fromCallable(() -> claimsCache.get(digest(token), key -> parseClaims(token)));
     }
 
     /**
-     * Validate JWT token
+     * Verify signature and expiration, then copy the claims we forward
      */
-    public Mono<Boolean> validateToken(String token) {
-        return Mono.fromCallable(() -> {
-            try {
-                return !isTokenExpired(token);
-            } catch (Exception e) {
-                log.error("Invalid JWT token: {}", e.getMessage());
-                return false;
-            }
-        });
+    private JwtClaims parseClaims(String token) {
+        Claims claims = keyring.parser().parseSignedClaims(token).getPayload();
+
+        if (claims.getExpiration() == null) {
+            throw new JwtException("Token has no expiration");
+        }
+
+        return JwtClaims.builder()
+                .username(claims.getSubject())
+                .role(claims.get("role", String.class))
+                .firstName(claims.get("firstName", String.class))
+                .lastName(claims.get("lastName", String.class))
+                .expiration(claims.getExpiration())
+                .build();
     }
 
     /**
-     * Get signing key from secret
+     * Cache key - never keep raw bearer tokens in memory
      */
-    private SecretKey getSignKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,219 @@
+package com.elearning.gateway.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Public Route Matcher
+ *
+ * Compiles the configured public routes into a path-segment trie once at
+ * startup. Classifying a request walks the path a single time, comparing
+ * segments in place (no substrings, no regex), so the cost depends on the
+ * path length rather than on how many public routes are configured.
+ */
+@Component
+@Slf4j
+public class PublicRouteMatcher {
+
+    private static final String OBJECT_ID = "{objectId}";
+    private static final String INT = "{int}";
+    private static final String PREFIX = "**";
+
+    private static final int OBJECT_ID_LENGTH = 24;
+    private static final int ALL_METHODS = ~0;
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private final Node root = new Node();
+
+    public PublicRouteMatcher(PublicRouteProperties properties) {
+        for (PublicRouteProperties.Rule rule : properties.getPublicRoutes()) {
+            addRule(rule);
+        }
+        log.info("Compiled {} public route rules", properties.getPublicRoutes().size());
+    }
+
+    /**
+     * Check if the request can skip JWT validation
+     */
+    public boolean isPublic(HttpMethod method, String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        int bit = methodBit(method);
+        return bit != 0 && match(root, path, 0, bit);
+    }
+
+    // ==================== MATCHING ====================
+
+    /**
+     * Depth-first walk; pos points at the '/' that starts the next segment
+     */
+    private boolean match(Node node, String path, int pos, int bit) {
+        if ((node.prefixMethods & bit) != 0) {
+            return true;
+        }
+
+        int length = path.length();
+
+        // End of path - a single trailing slash is tolerated on exact rules
+        if (pos == length || (pos == length - 1 && path.charAt(pos) == '/')) {
+            return (node.exactMethods & bit) != 0;
+        }
+
+        int start = pos + 1;
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - start;
+        if (segmentLength == 0) {
+            return false;
+        }
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == segmentLength
+                    && path.regionMatches(start, literal, 0, segmentLength)
+                    && match(node.literalChildren[i], path, end, bit)) {
+                return true;
+            }
+        }
+
+        if (node.objectIdChild != null && isObjectId(path, start, end)
+                && match(node.objectIdChild, path, end, bit)) {
+            return true;
+        }
+
+        return node.intChild != null && isDigits(path, start, end)
+                && match(node.intChild, path, end, bit);
+    }
+
+    private static boolean isObjectId(String path, int start, int end) {
+        if (end - start != OBJECT_ID_LENGTH) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String path, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int methodBit(HttpMethod method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i] == method) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    // ==================== COMPILATION ====================
+
+    private void addRule(PublicRouteProperties.Rule rule) {
+        String path = rule.getPath();
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalStateException("Public route path must start with '/': " + path);
+        }
+
+        int methods = compileMethods(rule);
+        String[] segments = path.substring(1).split("/");
+        Node node = root;
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+
+            if (PREFIX.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalStateException("'/**' is only allowed at the end of a public route: " + path);
+                }
+                node.prefixMethods |= methods;
+                return;
+            }
+            if (segment.isEmpty()) {
+                // Root path or trailing slash
+                if (i == segments.length - 1) {
+                    break;
+                }
+                throw new IllegalStateException("Empty segment in public route: " + path);
+            }
+            node = node.child(segment, path);
+        }
+
+        node.exactMethods |= methods;
+    }
+
+    private static int compileMethods(PublicRouteProperties.Rule rule) {
+        if (rule.getMethods() == null || rule.getMethods().isEmpty()) {
+            return ALL_METHODS;
+        }
+        int mask = 0;
+        for (String name : rule.getMethods()) {
+            int bit = methodBit(HttpMethod.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            if (bit == 0) {
+                throw new IllegalStateException("Unsupported HTTP method in public route " + rule.getPath() + ": " + name);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Trie node; fields are only written while rules are compiled
+     */
+    private static class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node objectIdChild;
+        private Node intChild;
+        private int exactMethods;
+        private int prefixMethods;
+
+        private Node child(String segment, String path) {
+            if (OBJECT_ID.equals(segment)) {
+                if (objectIdChild == null) {
+                    objectIdChild = new Node();
+                }
+                return objectIdChild;
+            }
+            if (INT.equals(segment)) {
+                if (intChild == null) {
+                    intChild = new Node();
+                }
+                return intChild;
+            }
+            if (segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0) {
+                throw new IllegalStateException("Unsupported segment '" + segment + "' in public route: " + path);
+            }
+
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node created = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = created;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.elearning.gateway.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Public route rules for the gateway (gateway.security.public-routes)
+ *
+ * Requests matching one of these rules skip JWT validation.
+ * Path syntax:
+ * - literal segments: /api/courses/published
+ * - {objectId} matches a 24 character lowercase hex MongoDB id
+ * - {int} matches one or more digits
+ * - a trailing /** matches the path itself and everything below it
+ * An empty methods list allows every HTTP method.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.security")
+@Data
+public class PublicRouteProperties {
+
+    private List<Rule> publicRoutes = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        private String path;
+        private List<String> methods = new ArrayList<>();
+    }
+}
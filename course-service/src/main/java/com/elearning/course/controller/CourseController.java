@@ -1,12 +1,24 @@
 package com.elearning.course.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+
+import com.elearning.course.dto.CatalogFilter;
+import com.elearning.course.dto.CoursePageResponse;
+import com.elearning.course.dto.CourseStructureBatchRequest;
+import com.elearning.course.dto.CourseStructureDTO;
+import com.elearning.course.dto.CourseTitleDTO;
+import com.elearning.course.dto.CourseTitlesRequest;
+import com.elearning.course.dto.EnrollmentCountCorrection;
+import com.elearning.course.dto.EnrollmentCountSnapshot;
 import com.elearning.course.dto.LessonDetailsDTO;
+import com.elearning.course.model.CatalogSort;
 import com.elearning.course.model.Course;
 import com.elearning.course.model.CourseLevel;
 import com.elearning.course.service.CourseService;
@@ -25,6 +37,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CourseController {
 
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
+    private static final int MAX_ENROLLMENT_COUNT_PAGE_SIZE = 1000;
+
     private final CourseService courseService;
 
     // ==================== CRUD Operations ====================
@@ -77,6 +92,34 @@ public class CourseController {
         return ResponseEntity.ok(courses);
     }
 
+    /**
+     * Get course catalog - summaries without modules, cursor-paginated
+     * GET /api/courses/catalog?sort=NEWEST&category=...&level=...&instructor=...&cursor=...&size=20
+     * Published courses only unless publishedOnly=false
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<CoursePageResponse> getCatalog(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) CourseLevel level,
+            @RequestParam(required = false) String instructor,
+            @RequestParam(defaultValue = "true") boolean publishedOnly,
+            @RequestParam(defaultValue = "NEWEST") CatalogSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CATALOG_PAGE_SIZE);
+        CatalogFilter filter = CatalogFilter.builder()
+                .category(category)
+                .level(level)
+                .instructorEmail(instructor)
+                .publishedOnly(publishedOnly)
+                .build();
+
+        CoursePageResponse page = courseService.getCatalogPage(filter, sort, cursor, pageSize);
+        log.info("Returning catalog page of {} courses (sort: {}, hasNext: {})", page.getSize(), sort, page.isHasNext());
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get course by ID
      * GET /api/courses/details/{id}
@@ -283,12 +326,115 @@ public class CourseController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Apply net enrollment count changes for many courses
+     * POST /api/courses/enrollment/deltas  body: { "courseId": delta, ... }
+     * Called by the Enrollment Service outbox dispatcher
+     */
+    @PostMapping("/enrollment/deltas")
+    public ResponseEntity<Void> applyEnrollmentDeltas(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestBody Map<String, Long> deltas) {
+        if (!isServiceOrAdmin(userRole)) {
+            log.warn("User with role {} attempted to change enrollment counts - FORBIDDEN", userRole);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        log.info("Applying enrollment count deltas for {} courses", deltas.size());
+        courseService.applyEnrollmentDeltas(deltas);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Stored enrollment counts, one keyset page in course id order
+     * GET /api/courses/enrollment/counts?after={courseId}&limit=200
+     * Called by the Enrollment Service reconciliation job
+     */
+    @GetMapping("/enrollment/counts")
+    public ResponseEntity<List<EnrollmentCountSnapshot>> getEnrollmentCounts(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "200") int limit) {
+        if (!isServiceOrAdmin(userRole)) {
+            log.warn("User with role {} attempted to read enrollment counts - FORBIDDEN", userRole);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_ENROLLMENT_COUNT_PAGE_SIZE);
+        return ResponseEntity.ok(courseService.getEnrollmentCounts(after, pageSize));
+    }
+
+    /**
+     * Overwrite enrollment counts with authoritative values
+     * PUT /api/courses/enrollment/counts  body: [ { courseId, enrollmentCount, version }, ... ]
+     * Called by the Enrollment Service reconciliation job with the versions from the GET above;
+     * returns the drifted courses that were corrected
+     */
+    @PutMapping("/enrollment/counts")
+    public ResponseEntity<List<EnrollmentCountCorrection>> reconcileEnrollmentCounts(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestBody List<EnrollmentCountSnapshot> counts) {
+        if (!isServiceOrAdmin(userRole)) {
+            log.warn("User with role {} attempted to overwrite enrollment counts - FORBIDDEN", userRole);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        List<EnrollmentCountCorrection> corrections = courseService.reconcileEnrollmentCounts(counts);
+        log.debug("Reconciled enrollment counts of {} courses, {} corrected", counts.size(), corrections.size());
+        return ResponseEntity.ok(corrections);
+    }
+
     @GetMapping("/{courseId}/lesson-count")
     public ResponseEntity<Integer> getLessonCount(@PathVariable String courseId) {
         int count = courseService.getTotalLessonCount(courseId);
         return ResponseEntity.ok(count);
     }
 
+    /**
+     * Get course structure - modules and lessons without content
+     * GET /api/courses/{courseId}/structure
+     * ETag changes with every course update; If-None-Match gets 304 while unchanged
+     */
+    @GetMapping("/{courseId}/structure")
+    public ResponseEntity<CourseStructureDTO> getCourseStructure(
+            @PathVariable String courseId,
+            WebRequest request) {
+        CourseStructureDTO structure = courseService.getCourseStructure(courseId);
+        String etag = "\"" + structure.getVersion() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null; // 304 Not Modified, headers already set
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(structure);
+    }
+
+    /**
+     * Get structures of many courses in one call
+     * POST /api/courses/structure/batch
+     * Unknown course ids are left out; each structure carries its version (ETag value)
+     */
+    @PostMapping("/structure/batch")
+    public ResponseEntity<List<CourseStructureDTO>> getCourseStructures(
+            @Valid @RequestBody CourseStructureBatchRequest request) {
+        List<CourseStructureDTO> structures = courseService.getCourseStructures(request.getCourseIds());
+        log.debug("Returning {} of {} requested course structures", structures.size(), request.getCourseIds().size());
+        return ResponseEntity.ok(structures);
+    }
+
+    /**
+     * Get titles of many courses in one call
+     * POST /api/courses/titles
+     * Only ids and titles are read; unknown course ids are left out
+     */
+    @PostMapping("/titles")
+    public ResponseEntity<List<CourseTitleDTO>> getCourseTitles(@Valid @RequestBody CourseTitlesRequest request) {
+        List<CourseTitleDTO> titles = courseService.getCourseTitles(request.getCourseIds());
+        log.debug("Returning {} of {} requested course titles", titles.size(), request.getCourseIds().size());
+        return ResponseEntity.ok(titles);
+    }
+
     @GetMapping("/{courseId}/modules/{moduleIndex}/lessons/{lessonIndex}")
     public ResponseEntity<LessonDetailsDTO> getLessonDetails(
             @PathVariable String courseId,
@@ -297,4 +443,12 @@ public class CourseController {
         LessonDetailsDTO lesson = courseService.getLessonDetails(courseId, moduleIndex, lessonIndex);
         return ResponseEntity.ok(lesson);
     }
+
+    /**
+     * Service-to-service calls come without gateway headers; through the
+     * gateway only admins may change enrollment counts
+     */
+    private static boolean isServiceOrAdmin(String userRole) {
+        return userRole == null || "ADMIN".equals(userRole);
+    }
 }
@@ -0,0 +1,21 @@
+package com.elearning.course.dto;
+
+import com.elearning.course.model.CourseLevel;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Catalog Filter - optional criteria for GET /catalog
+ *
+ * Null fields are not filtered on.
+ */
+@Value
+@Builder
+public class CatalogFilter {
+
+    String category;
+    CourseLevel level;
+    String instructorEmail;
+    boolean publishedOnly;
+}
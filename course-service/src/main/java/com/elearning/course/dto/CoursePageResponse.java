@@ -0,0 +1,29 @@
+package com.elearning.course.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Course Page Response DTO - one page of the course catalog
+ *
+ * Required BY:
+ * - GET /courses/catalog
+ *
+ * Pass nextCursor back as ?cursor= (with the same sort) to get the
+ * following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoursePageResponse {
+
+    private List<CourseSummary> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
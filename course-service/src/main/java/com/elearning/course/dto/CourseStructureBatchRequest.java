@@ -0,0 +1,25 @@
+package com.elearning.course.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Course Structure Batch Request DTO
+ *
+ * Required BY:
+ * - POST /courses/structure/batch
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseStructureBatchRequest {
+
+    @NotEmpty(message = "Course IDs are required")
+    @Size(max = 100, message = "At most 100 course IDs per request")
+    private List<String> courseIds;
+}
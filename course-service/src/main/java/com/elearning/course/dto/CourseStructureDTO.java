@@ -0,0 +1,51 @@
+package com.elearning.course.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Course Structure DTO - every module and lesson of a course, without content
+ *
+ * Required BY:
+ * - GET /courses/{courseId}/structure (ETag = quoted version)
+ * - POST /courses/structure/batch
+ *
+ * Consumers cache it per course and revalidate with If-None-Match;
+ * version changes whenever the course is updated.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseStructureDTO {
+
+    private String courseId;
+    private long version;
+    private int totalLessons;
+    private List<ModuleStructure> modules;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ModuleStructure {
+        private int index;
+        private String title;
+        private List<LessonStructure> lessons;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LessonStructure {
+        private int index;
+        private String title;
+        private Integer duration;
+        private boolean freePreview;
+    }
+}
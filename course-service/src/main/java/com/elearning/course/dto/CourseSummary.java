@@ -0,0 +1,41 @@
+package com.elearning.course.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.elearning.course.model.CourseLevel;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Course Summary - catalog projection of a course
+ *
+ * Only these fields are read from MongoDB; modules and lessons
+ * (the bulk of a course document) are never loaded.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSummary {
+
+    private String id;
+    private String title;
+    private String instructorFirstName;
+    private String instructorLastName;
+    private String category;
+    private CourseLevel level;
+    private BigDecimal price;
+    private String language;
+    private String thumbnailUrl;
+    private List<String> tags;
+    private Boolean isPublished;
+    private Integer enrollmentCount;
+    private Double averageRating;
+    private Integer reviewCount;
+    private LocalDateTime createdAt;
+}
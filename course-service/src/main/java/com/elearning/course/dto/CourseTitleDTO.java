@@ -0,0 +1,24 @@
+package com.elearning.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Course Title DTO - id and title only
+ *
+ * Required BY:
+ * - POST /courses/titles (Enrollment Service title cache)
+ *
+ * Also used as the MongoDB projection, so nothing else is read.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseTitleDTO {
+
+    private String id;
+    private String title;
+}
@@ -0,0 +1,25 @@
+package com.elearning.course.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Course Titles Request DTO
+ *
+ * Required BY:
+ * - POST /courses/titles
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseTitlesRequest {
+
+    @NotEmpty(message = "Course IDs are required")
+    @Size(max = 500, message = "At most 500 course IDs per request")
+    private List<String> courseIds;
+}
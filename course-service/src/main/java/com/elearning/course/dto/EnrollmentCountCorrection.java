@@ -0,0 +1,23 @@
+package com.elearning.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Enrollment Count Correction DTO - one course whose count had drifted
+ *
+ * Required BY:
+ * - PUT /courses/enrollment/counts (Enrollment Service reconciliation)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentCountCorrection {
+
+    private String courseId;
+    private long previous;
+    private long actual;
+}
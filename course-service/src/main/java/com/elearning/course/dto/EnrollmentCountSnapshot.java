@@ -0,0 +1,24 @@
+package com.elearning.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Enrollment Count Snapshot DTO - a course's count and its version
+ *
+ * Required BY:
+ * - GET /courses/enrollment/counts (stored counts, one keyset page)
+ * - PUT /courses/enrollment/counts (authoritative counts, with the version they were read at)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentCountSnapshot {
+
+    private String courseId;
+    private long enrollmentCount;
+    private long version;
+}
@@ -0,0 +1,14 @@
+package com.elearning.course.exception;
+
+/**
+ * Invalid Cursor Exception
+ *
+ * Thrown when a catalog cursor cannot be decoded or belongs to another sort
+ * Will be handled by GlobalExceptionHandler to return 400
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
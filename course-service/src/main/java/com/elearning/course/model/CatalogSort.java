@@ -0,0 +1,27 @@
+package com.elearning.course.model;
+
+/**
+ * Catalog Sort Order
+ *
+ * All orders are descending and break ties by _id (descending), which
+ * keeps cursor pagination stable when many courses share a value.
+ */
+public enum CatalogSort {
+
+    NEWEST("createdAt"),
+    MOST_ENROLLED("enrollmentCount"),
+    TOP_RATED("averageRating");
+
+    private final String field;
+
+    CatalogSort(String field) {
+        this.field = field;
+    }
+
+    /**
+     * Course document field this order sorts on
+     */
+    public String getField() {
+        return field;
+    }
+}
@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -18,12 +20,21 @@ import java.util.List;
  * Course Model - MongoDB Document
  * 
  * Main entity representing a course in the system
+ *
+ * Indexes back the catalog listings (see CatalogSort): each sort is
+ * (field desc, _id desc), prefixed by the common isPublished filter.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "courses")
+@CompoundIndexes({
+        @CompoundIndex(name = "catalog_newest", def = "{'isPublished': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "catalog_most_enrolled", def = "{'isPublished': 1, 'enrollmentCount': -1, '_id': -1}"),
+        @CompoundIndex(name = "catalog_top_rated", def = "{'isPublished': 1, 'averageRating': -1, '_id': -1}"),
+        @CompoundIndex(name = "catalog_instructor_newest", def = "{'instructorEmail': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Course {
 
     /**
@@ -110,6 +121,13 @@ public class Course {
     @Builder.Default
     private Integer enrollmentCount = 0;
 
+    /**
+     * Bumped with every enrollment count delta write
+     * Reconciliation only overwrites a count whose version is unchanged
+     */
+    @Builder.Default
+    private Long enrollmentCountVersion = 0L;
+
     /**
      * Average rating (1-5)
      * Denormalized data from Review Service (future)
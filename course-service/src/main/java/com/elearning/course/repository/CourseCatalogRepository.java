@@ -0,0 +1,29 @@
+package com.elearning.course.repository;
+
+import java.util.List;
+
+import com.elearning.course.dto.CatalogFilter;
+import com.elearning.course.dto.CourseSummary;
+import com.elearning.course.model.CatalogSort;
+
+/**
+ * Course Catalog Repository - custom fragment of CourseRepository
+ *
+ * Catalog listings read summary projections (no modules) with keyset
+ * pagination instead of skip/limit.
+ */
+public interface CourseCatalogRepository {
+
+    /**
+     * One catalog page in the given order
+     *
+     * @param filter optional criteria
+     * @param sort order, ties broken by _id
+     * @param afterValue sort value of the last course of the previous page (null on the first page or when that course had none)
+     * @param afterId id of the last course of the previous page, null on the first page
+     * @param limit max number of summaries
+     * @return list of course summaries
+     */
+    List<CourseSummary> findCatalogPage(CatalogFilter filter, CatalogSort sort,
+                                        Object afterValue, String afterId, int limit);
+}
@@ -0,0 +1,80 @@
+package com.elearning.course.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.elearning.course.dto.CatalogFilter;
+import com.elearning.course.dto.CourseSummary;
+import com.elearning.course.model.CatalogSort;
+import com.elearning.course.model.Course;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Course Catalog Repository implementation
+ *
+ * Uses MongoTemplate's fluent API with CourseSummary as the result type,
+ * which limits the query projection to the summary fields.
+ */
+@RequiredArgsConstructor
+public class CourseCatalogRepositoryImpl implements CourseCatalogRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<CourseSummary> findCatalogPage(CatalogFilter filter, CatalogSort sort,
+                                               Object afterValue, String afterId, int limit) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (filter.isPublishedOnly()) {
+            criteria.add(Criteria.where("isPublished").is(true));
+        }
+        if (filter.getCategory() != null) {
+            criteria.add(Criteria.where("category").is(filter.getCategory()));
+        }
+        if (filter.getLevel() != null) {
+            criteria.add(Criteria.where("level").is(filter.getLevel()));
+        }
+        if (filter.getInstructorEmail() != null) {
+            criteria.add(Criteria.where("instructorEmail").is(filter.getInstructorEmail()));
+        }
+        if (afterId != null) {
+            criteria.add(after(sort.getField(), afterValue, new ObjectId(afterId)));
+        }
+
+        Query query = new Query();
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria));
+        }
+        query.with(Sort.by(Sort.Direction.DESC, sort.getField(), "_id")).limit(limit);
+
+        return mongoTemplate.query(Course.class)
+                .as(CourseSummary.class)
+                .matching(query)
+                .all();
+    }
+
+    /**
+     * Seek past (value, id) in descending (field, _id) order
+     * Missing values sort last, so after one only other missing values remain
+     */
+    private static Criteria after(String field, Object value, ObjectId id) {
+        if (value == null) {
+            return new Criteria().andOperator(
+                    Criteria.where(field).is(null),
+                    Criteria.where("_id").lt(id));
+        }
+        return new Criteria().orOperator(
+                Criteria.where(field).lt(value),
+                new Criteria().andOperator(
+                        Criteria.where(field).is(value),
+                        Criteria.where("_id").lt(id)),
+                Criteria.where(field).is(null));
+    }
+}
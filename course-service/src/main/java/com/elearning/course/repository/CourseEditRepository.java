@@ -0,0 +1,29 @@
+package com.elearning.course.repository;
+
+import com.elearning.course.model.Course;
+
+/**
+ * Course Edit Repository - custom fragment of CourseRepository
+ *
+ * Instructor edits write only the fields they change. A full-document
+ * save would write back enrollmentCount as it was read and undo the
+ * counter updates made meanwhile.
+ */
+public interface CourseEditRepository {
+
+    /**
+     * $set the instructor-editable fields and updatedAt
+     *
+     * @param details new values (title, description, category, level, price,
+     *                language, thumbnailUrl, tags, modules, isPublished)
+     * @return updated course, or null if it does not exist
+     */
+    Course updateDetails(String id, Course details);
+
+    /**
+     * $set isPublished and updatedAt
+     *
+     * @return updated course, or null if it does not exist
+     */
+    Course updatePublished(String id, boolean published);
+}
@@ -0,0 +1,52 @@
+package com.elearning.course.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.elearning.course.model.Course;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Course Edit Repository implementation
+ *
+ * updatedAt is set explicitly - auditing only runs on save(), and the
+ * course structure version (ETag) is derived from it.
+ */
+@RequiredArgsConstructor
+public class CourseEditRepositoryImpl implements CourseEditRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Course updateDetails(String id, Course details) {
+        Update update = new Update()
+                .set("title", details.getTitle())
+                .set("description", details.getDescription())
+                .set("category", details.getCategory())
+                .set("level", details.getLevel())
+                .set("price", details.getPrice())
+                .set("language", details.getLanguage())
+                .set("thumbnailUrl", details.getThumbnailUrl())
+                .set("tags", details.getTags())
+                .set("modules", details.getModules())
+                .set("isPublished", details.getIsPublished())
+                .set("updatedAt", LocalDateTime.now());
+        return modify(id, update);
+    }
+
+    @Override
+    public Course updatePublished(String id, boolean published) {
+        return modify(id, new Update().set("isPublished", published).set("updatedAt", LocalDateTime.now()));
+    }
+
+    private Course modify(String id, Update update) {
+        return mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(id)), update,
+                FindAndModifyOptions.options().returnNew(true), Course.class);
+    }
+}
@@ -1,16 +1,18 @@
 package com.elearning.course.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import com.elearning.course.dto.CourseTitleDTO;
 import com.elearning.course.model.Course;
 import com.elearning.course.model.CourseLevel;
 
 /**
  * Course Repository
  */
-public interface CourseRepository extends MongoRepository<Course, String> {
+public interface CourseRepository extends MongoRepository<Course, String>, CourseCatalogRepository, CourseEditRepository {
 
     /**
      * Find all courses by instructor email
@@ -69,4 +71,14 @@ public interface CourseRepository extends MongoRepository<Course, String> {
      * @return List of courses
      */
     List<Course> findByTitleContainingIgnoreCase(String title);
+
+    /**
+     * Titles of the given courses, projected to id and title
+     *
+     * Query: db.courses.find({ _id: { $in: ids } }, { title: 1 })
+     *
+     * @param ids course ids
+     * @return titles of the courses that exist
+     */
+    List<CourseTitleDTO> findTitlesByIdIn(Collection<String> ids);
 }
@@ -0,0 +1,86 @@
+package com.elearning.course.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+
+import com.elearning.course.dto.CourseSummary;
+import com.elearning.course.exception.InvalidCursorException;
+import com.elearning.course.model.CatalogSort;
+
+import lombok.Value;
+
+/**
+ * Catalog pagination cursor
+ *
+ * Sort value and id of the last course on a page. The sort is part of the
+ * token so a cursor cannot be replayed against a different order.
+ * Clients only see the opaque base64url form.
+ */
+@Value
+public class CourseCursor {
+
+    CatalogSort sort;
+    Object value;
+    String id;
+
+    /**
+     * Cursor pointing at the given course
+     *
+     * @param sort order of the page
+     * @param course last course of a page
+     * @return cursor
+     */
+    public static CourseCursor of(CatalogSort sort, CourseSummary course) {
+        Object value = switch (sort) {
+            case NEWEST -> course.getCreatedAt();
+            case MOST_ENROLLED -> course.getEnrollmentCount();
+            case TOP_RATED -> course.getAverageRating();
+        };
+        return new CourseCursor(sort, value, course.getId());
+    }
+
+    /**
+     * Encode to opaque token
+     *
+     * @return base64url token
+     */
+    public String encode() {
+        String raw = sort.name() + "|" + (value == null ? "" : value) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode opaque token
+     *
+     * @param token base64url token from a previous page
+     * @param sort order of the requested page
+     * @return cursor
+     * @throws InvalidCursorException if the token is malformed or for another sort
+     */
+    public static CourseCursor decode(String token, CatalogSort sort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 3 || !sort.name().equals(parts[0]) || !ObjectId.isValid(parts[2])) {
+                throw new InvalidCursorException(token);
+            }
+            return new CourseCursor(sort, parseValue(sort, parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    private static Object parseValue(CatalogSort sort, String raw) {
+        if (raw.isEmpty()) {
+            return null;
+        }
+        return switch (sort) {
+            case NEWEST -> LocalDateTime.parse(raw);
+            case MOST_ENROLLED -> Integer.valueOf(raw);
+            case TOP_RATED -> Double.valueOf(raw);
+        };
+    }
+}
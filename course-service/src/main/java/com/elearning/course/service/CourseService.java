@@ -1,11 +1,23 @@
 package com.elearning.course.service;
 
 import java.util.List;
+import java.util.Map;
 
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 
+import com.elearning.course.dto.CatalogFilter;
+import com.elearning.course.dto.CoursePageResponse;
+import com.elearning.course.dto.CourseStructureDTO;
+import com.elearning.course.dto.CourseSummary;
+import com.elearning.course.dto.CourseTitleDTO;
+import com.elearning.course.dto.EnrollmentCountCorrection;
+import com.elearning.course.dto.EnrollmentCountSnapshot;
+import com.elearning.course.dto.LessonDetailsDTO;
 import com.elearning.course.exception.CourseNotFoundException;
+import com.elearning.course.exception.InvalidCursorException;
 import com.elearning.course.exception.UnauthorizedCourseAccessException;
+import com.elearning.course.model.CatalogSort;
 import com.elearning.course.model.Course;
 import com.elearning.course.model.CourseLevel;
 import com.elearning.course.repository.CourseRepository;
@@ -22,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CourseService {
 
     private final CourseRepository courseRepository;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final CourseStructureCache courseStructureCache;
 
     /**
      * Create a new course
@@ -48,6 +62,35 @@ public class CourseService {
         return courseRepository.findAll();
     }
 
+    /**
+     * Get one catalog page
+     * Summaries only; fetches one extra row to know whether a next page exists
+     *
+     * @param filter optional criteria
+     * @param sort catalog order
+     * @param cursor token from the previous page, null for the first page
+     * @param size page size
+     */
+    public CoursePageResponse getCatalogPage(CatalogFilter filter, CatalogSort sort, String cursor, int size) {
+        log.debug("Fetching catalog page: filter={}, sort={}, size={}", filter, sort, size);
+
+        CourseCursor after = cursor == null || cursor.isBlank() ? null : CourseCursor.decode(cursor, sort);
+        List<CourseSummary> rows = courseRepository.findCatalogPage(filter, sort,
+                after == null ? null : after.getValue(),
+                after == null ? null : after.getId(),
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<CourseSummary> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CoursePageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CourseCursor.of(sort, content.get(size - 1)).encode() : null)
+                .build();
+    }
+
     /**
      * Get course by Id
      */
@@ -111,18 +154,12 @@ public class CourseService {
             throw new UnauthorizedCourseAccessException(id, instructorEmail);
         }
 
-        course.setTitle(updatedCourse.getTitle());
-        course.setDescription(updatedCourse.getDescription());
-        course.setCategory(updatedCourse.getCategory());
-        course.setLevel(updatedCourse.getLevel());
-        course.setPrice(updatedCourse.getPrice());
-        course.setLanguage(updatedCourse.getLanguage());
-        course.setThumbnailUrl(updatedCourse.getThumbnailUrl());
-        course.setTags(updatedCourse.getTags());
-        course.setModules(updatedCourse.getModules());
-        course.setIsPublished(updatedCourse.getIsPublished());
-
-        Course saved = courseRepository.save(course);
+        // Field-level update - enrollmentCount is maintained by EnrollmentCounterService
+        Course saved = courseRepository.updateDetails(id, updatedCourse);
+        if (saved == null) {
+            throw new CourseNotFoundException(id);
+        }
+        courseStructureCache.invalidate(id);
         log.info("Course updated successfully: {}", id);
 
         return saved;
@@ -143,6 +180,7 @@ public class CourseService {
         }
 
         courseRepository.delete(course);
+        courseStructureCache.invalidate(id);
         log.info("Course deleted successfully: {}", id);
     }
 
@@ -160,8 +198,11 @@ public class CourseService {
             throw new UnauthorizedCourseAccessException(id, instructorEmail);
         }
 
-        course.setIsPublished(!course.getIsPublished());
-        Course updated = courseRepository.save(course);
+        Course updated = courseRepository.updatePublished(id, !Boolean.TRUE.equals(course.getIsPublished()));
+        if (updated == null) {
+            throw new CourseNotFoundException(id);
+        }
+        courseStructureCache.invalidate(id);
 
         log.info("Course publish status toggled to: {}", updated.getIsPublished());
         return updated;
@@ -184,88 +225,104 @@ public class CourseService {
     /**
      * Increment enrollment count
      * Called when student enrolls in course
+     * Buffered and written by EnrollmentCounterService within one flush interval
      */
     public void incrementEnrollmentCount(String courseId) {
-        log.info("Incrementing enrollment count for course: {}", courseId);
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
-
-        Integer currentCount = course.getEnrollmentCount();
-        course.setEnrollmentCount(currentCount == null ? 1 : currentCount + 1);
-
-        courseRepository.save(course);
-        log.info("Enrollment count for course {} incremented to: {}", courseId, course.getEnrollmentCount());
+        log.debug("Incrementing enrollment count for course: {}", courseId);
+        enrollmentCounterService.increment(courseId);
     }
 
     /**
      * Decrement enrollment count
      * Called when student drops enrollment
+     * Buffered like increments; the stored count never goes below 0
      */
     public void decrementEnrollmentCount(String courseId) {
-        log.info("Decrementing enrollment count for course: {}", courseId);
+        log.debug("Decrementing enrollment count for course: {}", courseId);
+        enrollmentCounterService.decrement(courseId);
+    }
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
+    /**
+     * Apply net enrollment count changes for several courses
+     * Called by Enrollment Service's outbox dispatcher, which deletes its events
+     * once this returns - so the deltas are written before acknowledging, not buffered
+     */
+    public void applyEnrollmentDeltas(Map<String, Long> deltas) {
+        enrollmentCounterService.applyNow(deltas);
+    }
 
-        Integer currentCount = course.getEnrollmentCount();
-        if (currentCount != null && currentCount > 0) {
-            course.setEnrollmentCount(currentCount - 1);
-        } else {
-            log.warn("Enrollment count for course {} is already 0 or null", courseId);
-            course.setEnrollmentCount(0);
+    /**
+     * Stored enrollment counts of the next page of courses, for reconciliation
+     *
+     * @throws InvalidCursorException if afterCourseId is not a course id
+     */
+    public List<EnrollmentCountSnapshot> getEnrollmentCounts(String afterCourseId, int limit) {
+        if (afterCourseId != null && !ObjectId.isValid(afterCourseId)) {
+            throw new InvalidCursorException(afterCourseId);
         }
+        return enrollmentCounterService.page(afterCourseId, limit);
+    }
 
-        courseRepository.save(course);
-        log.info("Enrollment count for course {} decremented to: {}", courseId, course.getEnrollmentCount());
+    /**
+     * Overwrite enrollment counts with the authoritative values from Enrollment Service
+     * A count is skipped if its version changed since the caller read it
+     *
+     * @return courses whose count had drifted
+     */
+    public List<EnrollmentCountCorrection> reconcileEnrollmentCounts(List<EnrollmentCountSnapshot> actual) {
+        return enrollmentCounterService.reconcile(actual);
     }
 
     /**
      * Get total lesson count across all modules
      * Called by Progress Service to calculate completion percentage
+     * Served from the course structure cache
      */
     public int getTotalLessonCount(String courseId) {
-        log.info("Getting total lesson count for course: {}", courseId);
+        int totalLessons = courseStructureCache.get(courseId).getTotalLessonCount();
+        log.debug("Course {} has {} total lessons", courseId, totalLessons);
+        return totalLessons;
+    }
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
+    /**
+     * Get all modules and lessons of the course (titles, durations, preview flags)
+     * Called by Progress Service to cache a course's lesson metadata at once
+     * Served from the course structure cache
+     */
+    public CourseStructureDTO getCourseStructure(String courseId) {
+        log.debug("Getting structure of course: {}", courseId);
+        return courseStructureCache.get(courseId).toDto(courseId);
+    }
 
-        int totalLessons = course.getModules().stream()
-                .mapToInt(module -> module.getLessons() != null ? module.getLessons().size() : 0)
-                .sum();
+    /**
+     * Get structures of several courses at once
+     * Unknown course ids are left out of the result
+     */
+    public List<CourseStructureDTO> getCourseStructures(List<String> courseIds) {
+        log.debug("Getting structure of {} courses", courseIds.size());
+        return courseStructureCache.getAll(courseIds).entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .toList();
+    }
 
-        log.info("Course {} has {} total lessons", courseId, totalLessons);
-        return totalLessons;
+    /**
+     * Get titles of several courses at once
+     * Called by Enrollment Service to fill its title cache; unknown ids are left out
+     */
+    public List<CourseTitleDTO> getCourseTitles(List<String> courseIds) {
+        log.debug("Getting titles of {} courses", courseIds.size());
+        return courseRepository.findTitlesByIdIn(courseIds);
     }
 
     /**
      * Get specific lesson details by module and lesson index
      * Called by Progress Service to denormalize lesson title and duration
+     * Served from the course structure cache
      */
-    public com.elearning.course.dto.LessonDetailsDTO getLessonDetails(String courseId, int moduleIndex,
-            int lessonIndex) {
-        log.info("Getting lesson details for course: {}, module: {}, lesson: {}",
+    public LessonDetailsDTO getLessonDetails(String courseId, int moduleIndex, int lessonIndex) {
+        log.debug("Getting lesson details for course: {}, module: {}, lesson: {}",
                 courseId, moduleIndex, lessonIndex);
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
-
-        if (course.getModules() == null || moduleIndex >= course.getModules().size()) {
-            throw new IllegalArgumentException("Module index " + moduleIndex + " not found in course");
-        }
-
-        var module = course.getModules().get(moduleIndex);
-
-        if (module.getLessons() == null || lessonIndex >= module.getLessons().size()) {
-            throw new IllegalArgumentException("Lesson index " + lessonIndex + " not found in module " + moduleIndex);
-        }
-
-        var lesson = module.getLessons().get(lessonIndex);
-
-        return com.elearning.course.dto.LessonDetailsDTO.builder()
-                .title(lesson.getTitle())
-                .duration(lesson.getDuration())
-                .build();
+        return courseStructureCache.get(courseId).getLesson(moduleIndex, lessonIndex);
     }
 
 }
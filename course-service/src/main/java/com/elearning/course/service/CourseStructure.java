@@ -0,0 +1,163 @@
+package com.elearning.course.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.elearning.course.dto.CourseStructureDTO;
+import com.elearning.course.dto.LessonDetailsDTO;
+import com.elearning.course.model.Course;
+import com.elearning.course.model.Lesson;
+import com.elearning.course.model.Module;
+
+/**
+ * Course Structure - compact, immutable index of a course's lessons
+ *
+ * Lessons of all modules are flattened into parallel arrays;
+ * moduleOffsets[m] is the flat index of the first lesson of module m
+ * and moduleOffsets[moduleCount] the total lesson count.
+ *
+ * version is derived from the course's updatedAt and changes with every
+ * course update, so it can be used as an ETag.
+ */
+public final class CourseStructure {
+
+    private static final int NO_DURATION = Integer.MIN_VALUE;
+
+    private final long version;
+    private final String[] moduleTitles;
+    private final int[] moduleOffsets;
+    private final String[] lessonTitles;
+    private final int[] lessonDurations;
+    private final boolean[] lessonFreePreview;
+
+    private CourseStructure(long version, String[] moduleTitles, int[] moduleOffsets,
+                            String[] lessonTitles, int[] lessonDurations, boolean[] lessonFreePreview) {
+        this.version = version;
+        this.moduleTitles = moduleTitles;
+        this.moduleOffsets = moduleOffsets;
+        this.lessonTitles = lessonTitles;
+        this.lessonDurations = lessonDurations;
+        this.lessonFreePreview = lessonFreePreview;
+    }
+
+    /**
+     * Build from a course (only modules and updatedAt are read)
+     */
+    public static CourseStructure of(Course course) {
+        List<Module> modules = course.getModules();
+        int moduleCount = modules == null ? 0 : modules.size();
+        String[] moduleTitles = new String[moduleCount];
+        int[] offsets = new int[moduleCount + 1];
+        for (int m = 0; m < moduleCount; m++) {
+            moduleTitles[m] = modules.get(m) == null ? null : modules.get(m).getTitle();
+            offsets[m + 1] = offsets[m] + lessonsOf(modules.get(m)).size();
+        }
+
+        String[] titles = new String[offsets[moduleCount]];
+        int[] durations = new int[offsets[moduleCount]];
+        boolean[] freePreview = new boolean[offsets[moduleCount]];
+        for (int m = 0; m < moduleCount; m++) {
+            List<Lesson> lessons = lessonsOf(modules.get(m));
+            for (int l = 0; l < lessons.size(); l++) {
+                Lesson lesson = lessons.get(l);
+                int flat = offsets[m] + l;
+                titles[flat] = lesson == null ? null : lesson.getTitle();
+                durations[flat] = lesson == null || lesson.getDuration() == null ? NO_DURATION : lesson.getDuration();
+                freePreview[flat] = lesson != null && Boolean.TRUE.equals(lesson.getIsFreePreview());
+            }
+        }
+        return new CourseStructure(versionOf(course.getUpdatedAt()), moduleTitles, offsets,
+                titles, durations, freePreview);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getModuleCount() {
+        return moduleOffsets.length - 1;
+    }
+
+    public int getTotalLessonCount() {
+        return moduleOffsets[moduleOffsets.length - 1];
+    }
+
+    /**
+     * Full structure as a DTO, lessons grouped by module
+     */
+    public CourseStructureDTO toDto(String courseId) {
+        List<CourseStructureDTO.ModuleStructure> modules = new ArrayList<>(getModuleCount());
+        for (int m = 0; m < getModuleCount(); m++) {
+            int start = moduleOffsets[m];
+            int lessonCount = moduleOffsets[m + 1] - start;
+            List<CourseStructureDTO.LessonStructure> lessons = new ArrayList<>(lessonCount);
+            for (int l = 0; l < lessonCount; l++) {
+                lessons.add(CourseStructureDTO.LessonStructure.builder()
+                        .index(l)
+                        .title(lessonTitles[start + l])
+                        .duration(durationAt(start + l))
+                        .freePreview(lessonFreePreview[start + l])
+                        .build());
+            }
+            modules.add(CourseStructureDTO.ModuleStructure.builder()
+                    .index(m)
+                    .title(moduleTitles[m])
+                    .lessons(lessons)
+                    .build());
+        }
+        return CourseStructureDTO.builder()
+                .courseId(courseId)
+                .version(version)
+                .totalLessons(getTotalLessonCount())
+                .modules(modules)
+                .build();
+    }
+
+    /**
+     * Title and duration of one lesson
+     *
+     * @throws IllegalArgumentException if the module or lesson index does not exist
+     */
+    public LessonDetailsDTO getLesson(int moduleIndex, int lessonIndex) {
+        if (moduleIndex < 0 || moduleIndex >= getModuleCount()) {
+            throw new IllegalArgumentException("Module index " + moduleIndex + " not found in course");
+        }
+        int start = moduleOffsets[moduleIndex];
+        if (lessonIndex < 0 || lessonIndex >= moduleOffsets[moduleIndex + 1] - start) {
+            throw new IllegalArgumentException("Lesson index " + lessonIndex + " not found in module " + moduleIndex);
+        }
+        int flat = start + lessonIndex;
+        return LessonDetailsDTO.builder()
+                .title(lessonTitles[flat])
+                .duration(durationAt(flat))
+                .build();
+    }
+
+    /**
+     * Approximate retained size in bytes, used as cache weight
+     */
+    public int weight() {
+        int bytes = 96 + 4 * moduleOffsets.length + 8 * moduleTitles.length + 13 * lessonTitles.length;
+        for (String title : moduleTitles) {
+            bytes += title == null ? 0 : 40 + title.length();
+        }
+        for (String title : lessonTitles) {
+            bytes += title == null ? 0 : 40 + title.length();
+        }
+        return bytes;
+    }
+
+    private Integer durationAt(int flat) {
+        return lessonDurations[flat] == NO_DURATION ? null : lessonDurations[flat];
+    }
+
+    private static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt == null ? 0 : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static List<Lesson> lessonsOf(Module module) {
+        return module == null || module.getLessons() == null ? List.of() : module.getLessons();
+    }
+}
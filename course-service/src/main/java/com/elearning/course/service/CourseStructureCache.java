@@ -0,0 +1,115 @@
+package com.elearning.course.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.elearning.course.exception.CourseNotFoundException;
+import com.elearning.course.model.Course;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Course structure cache
+ *
+ * Serves lesson-count and lesson-details lookups (Progress Service hot path)
+ * and structure requests from memory. Entries are built lazily from a
+ * projection that reads only module/lesson titles, durations and preview
+ * flags, bounded by approximate size in bytes.
+ *
+ * CourseService invalidates an entry whenever it writes the course; the ttl
+ * bounds staleness on other instances that did not see the write.
+ */
+@Component
+@Slf4j
+public class CourseStructureCache {
+
+    private final MongoTemplate mongoTemplate;
+    private final LoadingCache<String, CourseStructure> cache;
+
+    public CourseStructureCache(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${courses.structure-cache.ttl:10m}") Duration ttl,
+            @Value("${courses.structure-cache.max-weight:32MB}") DataSize maxWeight) {
+        this.mongoTemplate = mongoTemplate;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxWeight.toBytes())
+                .weigher((String courseId, CourseStructure structure) -> structure.weight())
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public CourseStructure load(String courseId) {
+                        return loadAll(Set.of(courseId)).get(courseId);
+                    }
+
+                    @Override
+                    public Map<String, CourseStructure> loadAll(Set<? extends String> courseIds) {
+                        return CourseStructureCache.this.loadAll(courseIds);
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "courseStructure");
+        log.info("Course structure cache enabled: ttl={}, maxWeight={}", ttl, maxWeight);
+    }
+
+    /**
+     * Get course structure, loading it on a miss
+     *
+     * @throws CourseNotFoundException if the course does not exist
+     */
+    public CourseStructure get(String courseId) {
+        CourseStructure structure = cache.get(courseId);
+        if (structure == null) {
+            throw new CourseNotFoundException(courseId);
+        }
+        return structure;
+    }
+
+    /**
+     * Get structures of several courses, loading all misses with one query
+     *
+     * @return structures by course id; unknown courses are left out
+     */
+    public Map<String, CourseStructure> getAll(Collection<String> courseIds) {
+        return cache.getAll(courseIds);
+    }
+
+    /**
+     * Drop a course's structure - call after every write to the course
+     */
+    public void invalidate(String courseId) {
+        cache.invalidate(courseId);
+    }
+
+    /**
+     * Load only the structure fields, with one $in query; unknown courses are not cached
+     */
+    private Map<String, CourseStructure> loadAll(Collection<? extends String> courseIds) {
+        Query query = Query.query(Criteria.where("_id").in(courseIds));
+        query.fields().include("updatedAt", "modules.title",
+                "modules.lessons.title", "modules.lessons.duration", "modules.lessons.isFreePreview");
+
+        Map<String, CourseStructure> structures = new HashMap<>();
+        for (Course course : mongoTemplate.find(query, Course.class)) {
+            structures.put(course.getId(), CourseStructure.of(course));
+        }
+        log.debug("Loaded structures of {} of {} courses", structures.size(), courseIds.size());
+        return structures;
+    }
+}
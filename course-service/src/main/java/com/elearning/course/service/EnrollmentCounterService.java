@@ -0,0 +1,290 @@
+package com.elearning.course.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.elearning.course.dto.EnrollmentCountCorrection;
+import com.elearning.course.dto.EnrollmentCountSnapshot;
+import com.elearning.course.model.Course;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Enrollment Counter Service
+ *
+ * Coalesces enrollment count changes in memory (one LongAdder per course,
+ * so concurrent enrollments into a popular course do not contend) and
+ * periodically flushes the net delta of every course with a single
+ * unordered bulkWrite. Only the enrollmentCount field is touched,
+ * server-side - the course document is never loaded or rewritten.
+ *
+ * Counters are eventually consistent: a change shows up in the course
+ * document within one flush interval.
+ *
+ * Every delta write also bumps enrollmentCountVersion, so reconciliation
+ * can tell whether a count changed after it was read.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentCounterService {
+
+    private static final String FIELD = "enrollmentCount";
+    private static final String VERSION = "enrollmentCountVersion";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Pending deltas per course id. Entries are kept once created (bounded by
+     * the number of courses) - removing them could drop a concurrent update.
+     */
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Record +1 for course
+     */
+    public void increment(String courseId) {
+        add(courseId, 1);
+    }
+
+    /**
+     * Record -1 for course
+     */
+    public void decrement(String courseId) {
+        add(courseId, -1);
+    }
+
+    /**
+     * Record an arbitrary delta for course
+     */
+    public void add(String courseId, long delta) {
+        if (delta != 0) {
+            pending.computeIfAbsent(courseId, id -> new LongAdder()).add(delta);
+        }
+    }
+
+    /**
+     * Flush accumulated deltas with one bulkWrite
+     *
+     * Positive deltas use $inc; negative ones use a pipeline update that
+     * clamps the count at 0. If the write fails, the deltas of the failed
+     * operations are added back and retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${courses.enrollment-counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<String> courseIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        pending.forEach((courseId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                courseIds.add(courseId);
+                deltas.add(delta);
+            }
+        });
+
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = deltaBulk(courseIds, deltas);
+        try {
+            var result = bulk.execute();
+            log.debug("Flushed enrollment counters for {} courses ({} matched)",
+                    courseIds.size(), result.getMatchedCount());
+            if (result.getMatchedCount() < courseIds.size()) {
+                log.warn("{} enrollment counter updates matched no course",
+                        courseIds.size() - result.getMatchedCount());
+            }
+        } catch (BulkOperationException e) {
+            // Unordered: only the reported operations failed
+            e.getErrors().forEach(error -> add(courseIds.get(error.getIndex()), deltas.get(error.getIndex())));
+            log.error("Enrollment counter flush: {} of {} updates failed, will retry",
+                    e.getErrors().size(), courseIds.size());
+        } catch (RuntimeException e) {
+            // Outcome unknown - retry everything rather than lose counts
+            for (int i = 0; i < courseIds.size(); i++) {
+                add(courseIds.get(i), deltas.get(i));
+            }
+            log.error("Enrollment counter flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apply deltas now, bypassing the buffer
+     *
+     * Used for deltas that are acknowledged to the sender (the Enrollment
+     * Service outbox): they must be in the database before the sender
+     * deletes its copy. Any failure is thrown so the sender redelivers.
+     *
+     * @param deltas course id -> net change
+     */
+    public void applyNow(Map<String, Long> deltas) {
+        List<String> courseIds = new ArrayList<>();
+        List<Long> values = new ArrayList<>();
+        deltas.forEach((courseId, delta) -> {
+            if (delta != null && delta != 0) {
+                courseIds.add(courseId);
+                values.add(delta);
+            }
+        });
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        var result = deltaBulk(courseIds, values).execute();
+        log.debug("Applied enrollment count deltas for {} courses ({} matched)",
+                courseIds.size(), result.getMatchedCount());
+    }
+
+    /**
+     * Stored counts of the next page of courses, in id order
+     *
+     * @param afterCourseId last course of the previous page, null for the first page
+     */
+    public List<EnrollmentCountSnapshot> page(String afterCourseId, int limit) {
+        Criteria range = afterCourseId == null ? new Criteria() : Criteria.where("_id").gt(new ObjectId(afterCourseId));
+        Query query = Query.query(range).with(Sort.by("_id")).limit(limit);
+        query.fields().include(FIELD).include(VERSION);
+
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Course.class)).stream()
+                .map(course -> new EnrollmentCountSnapshot(course.getObjectId("_id").toHexString(),
+                        longValue(course, FIELD), longValue(course, VERSION)))
+                .toList();
+    }
+
+    /**
+     * Overwrite enrollment counts with authoritative values
+     *
+     * Each count is only written if the course's version still equals the
+     * one the caller read before computing it - a delta written in between
+     * means the authoritative value may be stale, and the course is left for
+     * the next pass. Buffered deltas of this instance are flushed first, and
+     * no flush can run until the corrections are written; other instances'
+     * flushes bump the version like any delta write. Courses whose
+     * count is already right are not written; unknown course ids are ignored.
+     *
+     * @param actual authoritative counts, each with the version read before counting
+     * @return the courses that were corrected
+     */
+    public synchronized List<EnrollmentCountCorrection> reconcile(List<EnrollmentCountSnapshot> actual) {
+        flush();
+
+        Map<String, EnrollmentCountSnapshot> byId = new HashMap<>();
+        actual.stream().filter(count -> ObjectId.isValid(count.getCourseId()))
+                .forEach(count -> byId.put(count.getCourseId(), count));
+        Query byIds = Query.query(Criteria.where("_id").in(byId.keySet().stream().map(ObjectId::new).toList()));
+        byIds.fields().include(FIELD).include(VERSION);
+
+        List<EnrollmentCountCorrection> corrections = new ArrayList<>();
+        int changed = 0;
+        for (Document course : mongoTemplate.find(byIds, Document.class, mongoTemplate.getCollectionName(Course.class))) {
+            EnrollmentCountSnapshot count = byId.get(course.getObjectId("_id").toHexString());
+            long previous = longValue(course, FIELD);
+            if (longValue(course, VERSION) != count.getVersion()) {
+                changed++;
+            } else if (previous != count.getEnrollmentCount()) {
+                corrections.add(new EnrollmentCountCorrection(count.getCourseId(), previous, count.getEnrollmentCount()));
+            }
+        }
+        if (changed > 0) {
+            log.debug("{} enrollment counts changed since they were read, left for the next pass", changed);
+        }
+        if (corrections.isEmpty()) {
+            return corrections;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Course.class);
+        corrections.forEach(correction -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(correction.getCourseId())
+                        .and(VERSION).in(versionValues(byId.get(correction.getCourseId()).getVersion()))),
+                new Update().set(FIELD, correction.getActual())));
+        var result = bulk.execute();
+
+        if (result.getMatchedCount() < corrections.size()) {
+            // A delta landed between the read and the write - keep only what was written
+            corrections = corrections.stream().filter(this::isApplied).toList();
+        }
+        log.info("Corrected enrollment counts of {} of {} courses", corrections.size(), actual.size());
+        return corrections;
+    }
+
+    /**
+     * Final flush on shutdown
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing enrollment counters before shutdown");
+        flush();
+    }
+
+    private boolean isApplied(EnrollmentCountCorrection correction) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(correction.getCourseId())
+                .and(FIELD).is(correction.getActual())), Course.class);
+    }
+
+    /**
+     * Version match; courses created before versioning have no version field
+     */
+    private static List<Object> versionValues(long version) {
+        return version == 0 ? Arrays.asList(0L, null) : List.of(version);
+    }
+
+    private static long longValue(Document course, String field) {
+        Number value = course.get(field, Number.class);
+        return value == null ? 0 : value.longValue();
+    }
+
+    /**
+     * One unordered update per course: $inc for positive deltas, clamped add for negative ones
+     */
+    private BulkOperations deltaBulk(List<String> courseIds, List<Long> deltas) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Course.class);
+        for (int i = 0; i < courseIds.size(); i++) {
+            Query byId = Query.query(Criteria.where("_id").is(courseIds.get(i)));
+            long delta = deltas.get(i);
+
+            if (delta > 0) {
+                bulk.updateOne(byId, new Update().inc(FIELD, delta).inc(VERSION, 1));
+            } else {
+                bulk.updateOne(byId, clampedAdd(delta));
+            }
+        }
+        return bulk;
+    }
+
+    /**
+     * enrollmentCount = max(0, enrollmentCount + delta), evaluated by the server
+     */
+    private static AggregationUpdate clampedAdd(long delta) {
+        AggregationExpression clamped = context -> new Document("$max",
+                List.of(0, new Document("$add", List.of(new Document("$ifNull", List.of("$" + FIELD, 0)), delta))));
+        AggregationExpression nextVersion = context -> new Document("$add",
+                List.of(new Document("$ifNull", List.of("$" + VERSION, 0L)), 1L));
+        return AggregationUpdate.update()
+                .set(SetOperation.set(FIELD).toValue(clamped))
+                .set(SetOperation.set(VERSION).toValue(nextVersion));
+    }
+}
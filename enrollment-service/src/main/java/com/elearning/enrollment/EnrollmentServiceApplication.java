@@ -3,9 +3,11 @@ package com.elearning.enrollment;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching // Enable Redis caching
+@EnableScheduling // Outbox dispatcher
 public class EnrollmentServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(EnrollmentServiceApplication.class, args);
@@ -0,0 +1,29 @@
+package com.elearning.enrollment.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts L1 cache invalidations to the other enrollment-service nodes
+ *
+ * Implementations: Redis pub/sub (default), in-process (tests / single node).
+ * Selected with enrollment.cache.invalidation.transport.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Tell the other nodes to drop an entry (key != null) or a whole cache (key == null)
+     */
+    void publish(Invalidation invalidation);
+
+    /**
+     * Receive invalidations published by other nodes
+     */
+    void subscribe(Consumer<Invalidation> listener);
+
+    /**
+     * @param origin node that published it; a node ignores its own messages
+     * @param key cache key as a string, null to clear the whole cache
+     */
+    record Invalidation(String origin, String cacheName, String key) {
+    }
+}
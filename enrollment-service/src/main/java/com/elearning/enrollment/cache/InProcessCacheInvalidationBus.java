@@ -0,0 +1,31 @@
+package com.elearning.enrollment.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process stand-in for the Redis invalidation bus
+ *
+ * Delivers synchronously to every subscriber in this JVM, so several
+ * cache managers in one test behave like separate nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "enrollment.cache.invalidation.transport", havingValue = "in-process")
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<Invalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> listener) {
+        listeners.add(listener);
+    }
+}
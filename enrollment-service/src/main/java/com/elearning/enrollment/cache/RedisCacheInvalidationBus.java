@@ -0,0 +1,68 @@
+package com.elearning.enrollment.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidation bus over Redis pub/sub
+ *
+ * Messages are "origin|cacheName|key" ("origin|cacheName|" clears the cache).
+ * Pub/sub is fire-and-forget: a node that misses a message keeps a stale
+ * L1 entry until the L1 TTL expires it.
+ */
+@Component
+@ConditionalOnProperty(name = "enrollment.cache.invalidation.transport", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${enrollment.cache.invalidation.channel:enrollment-service:cache-invalidation}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        String message = invalidation.origin() + SEPARATOR + invalidation.cacheName() + SEPARATOR
+                + (invalidation.key() == null ? "" : invalidation.key());
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), message);
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the L1 TTL
+            log.warn("Could not publish cache invalidation for {}: {}", invalidation.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int first = body.indexOf(SEPARATOR);
+            int second = body.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                log.warn("Ignoring malformed cache invalidation: {}", body);
+                return;
+            }
+            String key = body.substring(second + 1);
+            listener.accept(new Invalidation(body.substring(0, first), body.substring(first + 1, second),
+                    key.isEmpty() ? null : key));
+        }, topic);
+    }
+}
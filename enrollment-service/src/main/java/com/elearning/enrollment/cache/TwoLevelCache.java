@@ -0,0 +1,166 @@
+package com.elearning.enrollment.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Near cache: bounded in-process L1 (Caffeine) in front of a shared L2 (Redis)
+ *
+ * Reads try L1, then L2, and copy L2 hits into L1. Writes and evictions go
+ * to L2 first, then L1, then are broadcast so other nodes drop their L1
+ * copy and re-read L2. L1 values are shared instances - callers must not
+ * modify them.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationBus bus;
+    private final String nodeId;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Timer l1Latency;
+    private final Timer l2Latency;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> l1, Cache l2,
+            CacheInvalidationBus bus, String nodeId, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.bus = bus;
+        this.nodeId = nodeId;
+
+        this.l1Hits = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l1", "result", "hit");
+        this.l1Misses = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l1", "result", "miss");
+        this.l2Hits = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l2", "result", "hit");
+        this.l2Misses = meterRegistry.counter("cache.tier.gets", "cache", name, "tier", "l2", "result", "miss");
+        this.l1Latency = meterRegistry.timer("cache.tier.latency", "cache", name, "tier", "l1");
+        this.l2Latency = meterRegistry.timer("cache.tier.latency", "cache", name, "tier", "l2");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object local = timed(l1Latency, () -> l1.getIfPresent(key));
+        if (local != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(local);
+        }
+        l1Misses.increment();
+
+        ValueWrapper remote = timed(l2Latency, () -> l2.get(key));
+        if (remote == null || remote.get() == null) {
+            l2Misses.increment();
+            return remote;
+        }
+        l2Hits.increment();
+        l1.put(key, remote.get());
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        if (value != null) {
+            l1.put(key, value);
+        } else {
+            l1.invalidate(key);
+        }
+        broadcast(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(key);
+        broadcast(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = l2.evictIfPresent(key);
+        l1.invalidate(key);
+        broadcast(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        broadcast(null);
+    }
+
+    /**
+     * Drop the local copy after another node changed the entry (null key = all)
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    private void broadcast(Object key) {
+        bus.publish(new CacheInvalidationBus.Invalidation(nodeId, name, key == null ? null : key.toString()));
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.elearning.enrollment.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache manager wrapping every cache of the L2 manager in a TwoLevelCache
+ *
+ * Each node gets a random id; invalidations it publishes are ignored when
+ * they come back, all others drop the matching L1 entries. Cache keys are
+ * compared as strings across nodes (all enrollment cache keys are strings).
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager l2Manager;
+    private final CacheInvalidationBus bus;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaxSize;
+    private final Duration l1Ttl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager l2Manager, CacheInvalidationBus bus, MeterRegistry meterRegistry,
+            long l1MaxSize, Duration l1Ttl) {
+        this.l2Manager = l2Manager;
+        this.bus = bus;
+        this.meterRegistry = meterRegistry;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+
+        bus.subscribe(invalidation -> {
+            if (nodeId.equals(invalidation.origin())) {
+                return;
+            }
+            TwoLevelCache cache = caches.get(invalidation.cacheName());
+            if (cache != null) {
+                cache.invalidateLocal(invalidation.key());
+            }
+        });
+        log.info("Two-level cache enabled: node {}, L1 max {} entries per cache, L1 TTL {}", nodeId, l1MaxSize, l1Ttl);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache l2 = l2Manager.getCache(name);
+        return l2 == null ? null : caches.computeIfAbsent(name, n -> create(n, l2));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2Manager.getCacheNames();
+    }
+
+    private TwoLevelCache create(String name, Cache l2) {
+        // TTL bounds staleness if an invalidation message is lost
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, name + ".l1");
+        return new TwoLevelCache(name, l1, l2, bus, nodeId, meterRegistry);
+    }
+}
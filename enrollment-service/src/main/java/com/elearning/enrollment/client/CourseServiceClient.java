@@ -1,81 +1,212 @@
 package com.elearning.enrollment.client;
 
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CourseServiceClient {
 
-    private final RestTemplate restTemplate;
+    private static final String UNKNOWN_COURSE = "Unknown Course";
 
-    @Value("${course.service.url:http://localhost:8082}")
-    private String courseServiceUrl;
+    /** Ids per POST /titles call - the Course Service limit */
+    private static final int TITLES_BATCH_SIZE = 500;
 
-    // TODO: Phase 2 - This entire class should be replaced with RabbitMQ event
-    // publishing
-    // Instead of synchronous REST calls, publish events to a message queue
+    private final RestTemplate restTemplate;
+    private final String courseServiceUrl;
+
+    /**
+     * Course id -> title. Concurrent misses for one course share a single
+     * remote call; entries are refreshed in the background after
+     * refresh-after so renamed courses show up without blocking enrollments.
+     */
+    private final LoadingCache<String, String> titles;
+
+    public CourseServiceClient(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${course.service.url:http://localhost:8082}") String courseServiceUrl,
+            @Value("${enrollment.course-titles.max-size:10000}") long titlesMaxSize,
+            @Value("${enrollment.course-titles.refresh-after:5m}") Duration titlesRefresh,
+            @Value("${enrollment.course-titles.ttl:1h}") Duration titlesTtl) {
+        this.restTemplate = restTemplate;
+        this.courseServiceUrl = courseServiceUrl;
+        this.titles = Caffeine.newBuilder()
+                .maximumSize(titlesMaxSize)
+                .refreshAfterWrite(titlesRefresh)
+                .expireAfterWrite(titlesTtl)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public String load(String courseId) {
+                        return fetchCourseTitles(List.of(courseId)).get(courseId);
+                    }
+
+                    @Override
+                    public Map<String, String> loadAll(Set<? extends String> courseIds) {
+                        return fetchCourseTitles(courseIds);
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, titles, "courseTitles");
+    }
 
+    /**
+     * Title of a course, from the cache
+     *
+     * @return title, or "Unknown Course" if the course does not exist or Course Service is unavailable
+     */
     public String getCourseTitle(String courseId) {
         try {
-            log.debug("Fetching course title for courseId: {}", courseId);
-
-            String url = courseServiceUrl + "/api/courses/details/" + courseId;
-            CourseDetailsResponse response = restTemplate.getForObject(url, CourseDetailsResponse.class);
-
-            if (response != null && response.getTitle() != null) {
-                log.debug("Course title fetched: {}", response.getTitle());
-                return response.getTitle();
+            String title = titles.get(courseId);
+            if (title != null) {
+                return title;
             }
-
             log.warn("Course title not found for courseId: {}", courseId);
-            return "Unknown Course";
-
         } catch (Exception e) {
             log.error("Error fetching course title for courseId: {}", courseId, e);
-            return "Unknown Course";
         }
+        return UNKNOWN_COURSE;
     }
 
-    public void incrementEnrollmentCount(String courseId) {
-        try {
-            log.debug("Incrementing enrollment count for courseId: {}", courseId);
-
-            String url = courseServiceUrl + "/api/courses/" + courseId + "/enrollment/increment";
-            restTemplate.postForEntity(url, null, Void.class);
+    /**
+     * Title of a course, distinguishing unknown courses from lookup failures
+     *
+     * @return title, or null if the course does not exist
+     * @throws RuntimeException if Course Service is unavailable
+     */
+    public String findCourseTitle(String courseId) {
+        return titles.get(courseId);
+    }
 
-            log.debug("Successfully incremented enrollment count for courseId: {}", courseId);
+    /**
+     * Titles of several courses; cache misses are fetched with batched calls
+     *
+     * @return course id -> title, "Unknown Course" for courses that could not be resolved
+     */
+    public Map<String, String> getCourseTitles(Collection<String> courseIds) {
+        Map<String, String> result = new HashMap<>();
+        try {
+            result.putAll(titles.getAll(courseIds));
         } catch (Exception e) {
-            log.error("Error incrementing enrollment count for courseId: {}", courseId, e);
-            throw new RuntimeException("Failed to increment enrollment count for course: " + courseId, e);
+            log.error("Error fetching titles of {} courses", courseIds.size(), e);
         }
+        courseIds.forEach(courseId -> result.putIfAbsent(courseId, UNKNOWN_COURSE));
+        return result;
     }
 
-    public void decrementEnrollmentCount(String courseId) {
-        try {
-            log.debug("Decrementing enrollment count for courseId: {}", courseId);
+    /**
+     * Apply net enrollment count changes for many courses in one call
+     * Used by the outbox dispatcher; failures propagate so the batch is retried
+     */
+    public void applyEnrollmentCountDeltas(Map<String, Long> deltasByCourse) {
+        log.debug("Sending enrollment count deltas for {} courses", deltasByCourse.size());
 
-            String url = courseServiceUrl + "/api/courses/" + courseId + "/enrollment/decrement";
-            restTemplate.postForEntity(url, null, Void.class);
+        String url = courseServiceUrl + "/api/courses/enrollment/deltas";
+        restTemplate.postForEntity(url, deltasByCourse, Void.class);
+    }
 
-            log.debug("Successfully decremented enrollment count for courseId: {}", courseId);
-        } catch (Exception e) {
-            log.error("Error decrementing enrollment count for courseId: {}", courseId, e);
-            throw new RuntimeException("Failed to decrement enrollment count for course: " + courseId, e);
+    /**
+     * Stored enrollment counts of the next page of courses, in course id order
+     * Used by the reconciliation job; failures propagate
+     *
+     * @param afterCourseId last course of the previous page, null for the first page
+     */
+    public List<CountSnapshot> getEnrollmentCounts(String afterCourseId, int limit) {
+        CountSnapshot[] counts = afterCourseId == null
+                ? restTemplate.getForObject(courseServiceUrl + "/api/courses/enrollment/counts?limit={limit}",
+                        CountSnapshot[].class, limit)
+                : restTemplate.getForObject(courseServiceUrl + "/api/courses/enrollment/counts?after={after}&limit={limit}",
+                        CountSnapshot[].class, afterCourseId, limit);
+        return counts != null ? List.of(counts) : List.of();
+    }
+
+    /**
+     * Overwrite course enrollment counts with authoritative values
+     * Used by the reconciliation job; failures propagate
+     *
+     * @param counts enrollments that are not DROPPED per course, each with the version read by getEnrollmentCounts
+     * @return the courses whose count had drifted and was corrected
+     */
+    public List<CountCorrection> reconcileEnrollmentCounts(List<CountSnapshot> counts) {
+        String url = courseServiceUrl + "/api/courses/enrollment/counts";
+        CountCorrection[] corrections = restTemplate.exchange(url, HttpMethod.PUT,
+                new HttpEntity<>(counts), CountCorrection[].class).getBody();
+        return corrections != null ? List.of(corrections) : List.of();
+    }
+
+    /**
+     * Fetch titles from Course Service - only ids and titles are transferred
+     * Unknown courses are missing from the result
+     */
+    private Map<String, String> fetchCourseTitles(Collection<? extends String> courseIds) {
+        log.debug("Fetching titles of {} courses", courseIds.size());
+
+        String url = courseServiceUrl + "/api/courses/titles";
+        List<String> ids = new ArrayList<>(courseIds);
+        Map<String, String> result = new HashMap<>();
+
+        for (int from = 0; from < ids.size(); from += TITLES_BATCH_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + TITLES_BATCH_SIZE, ids.size()));
+            CourseTitle[] response = restTemplate.postForObject(url, new CourseTitlesRequest(chunk), CourseTitle[].class);
+            if (response != null) {
+                Arrays.stream(response)
+                        .filter(course -> course.getTitle() != null)
+                        .forEach(course -> result.put(course.getId(), course.getTitle()));
+            }
         }
+        return result;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class CourseTitlesRequest {
+        private List<String> courseIds;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CountSnapshot {
+        private String courseId;
+        private long enrollmentCount;
+        private long version;
+    }
+
+    @Data
+    public static class CountCorrection {
+        private String courseId;
+        private long previous;
+        private long actual;
     }
 
-    @lombok.Data
-    private static class CourseDetailsResponse {
+    @Data
+    private static class CourseTitle {
         private String id;
         private String title;
-        private String description;
-        private String instructorEmail;
-        private String instructorFirstName;
-        private String instructorLastName;
     }
 }
@@ -0,0 +1,21 @@
+package com.elearning.enrollment.client;
+
+import java.util.Map;
+
+/**
+ * Delivers enrollment side effects to Course Service
+ *
+ * Implementations: HTTP (default), in-process (tests / local runs).
+ * A message broker implementation can replace them without touching
+ * the outbox or the dispatcher. Selected with enrollment.outbox.transport.
+ */
+public interface EnrollmentEventTransport {
+
+    /**
+     * Deliver net enrollment count changes
+     *
+     * @param deltasByCourse course id -> net change (never 0)
+     * @throws RuntimeException if delivery failed; the whole batch is retried
+     */
+    void deliverEnrollmentCountDeltas(Map<String, Long> deltasByCourse);
+}
@@ -0,0 +1,24 @@
+package com.elearning.enrollment.client;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Delivers enrollment count changes with one REST call per batch
+ */
+@Component
+@ConditionalOnProperty(name = "enrollment.outbox.transport", havingValue = "http", matchIfMissing = true)
+@RequiredArgsConstructor
+public class HttpEnrollmentEventTransport implements EnrollmentEventTransport {
+
+    private final CourseServiceClient courseServiceClient;
+
+    @Override
+    public void deliverEnrollmentCountDeltas(Map<String, Long> deltasByCourse) {
+        courseServiceClient.applyEnrollmentCountDeltas(deltasByCourse);
+    }
+}
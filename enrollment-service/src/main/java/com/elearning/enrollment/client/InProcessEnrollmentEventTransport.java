@@ -0,0 +1,34 @@
+package com.elearning.enrollment.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps delivered enrollment count changes in memory instead of sending them
+ * For tests and running the service without Course Service
+ */
+@Component
+@ConditionalOnProperty(name = "enrollment.outbox.transport", havingValue = "in-process")
+@Slf4j
+public class InProcessEnrollmentEventTransport implements EnrollmentEventTransport {
+
+    private final Map<String, Long> delivered = new ConcurrentHashMap<>();
+
+    @Override
+    public void deliverEnrollmentCountDeltas(Map<String, Long> deltasByCourse) {
+        deltasByCourse.forEach((courseId, delta) -> delivered.merge(courseId, delta, Long::sum));
+        log.debug("Delivered enrollment count deltas in-process: {}", deltasByCourse);
+    }
+
+    /**
+     * Sum of all deltas delivered so far, per course
+     */
+    public Map<String, Long> getDelivered() {
+        return Map.copyOf(delivered);
+    }
+}
@@ -0,0 +1,77 @@
+package com.elearning.enrollment.config;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.elearning.enrollment.cache.CacheInvalidationBus;
+import com.elearning.enrollment.cache.TwoLevelCacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Two-level cache: in-process L1 per node, Redis L2 shared by all nodes
+ *
+ * The Redis manager is built here from the spring.cache.* settings (Boot's
+ * own backs off once a CacheManager bean exists) and stays a bean so its
+ * cache.gets metrics are still registered. The two-level manager is the
+ * primary one used by @Cacheable/@CacheEvict and EnrollmentService.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, CacheProperties properties) {
+        CacheProperties.Redis redis = properties.getRedis();
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig(getClass().getClassLoader());
+        if (redis.getTimeToLive() != null) {
+            config = config.entryTtl(redis.getTimeToLive());
+        }
+        if (!redis.isCacheNullValues()) {
+            config = config.disableCachingNullValues();
+        }
+        if (!redis.isUseKeyPrefix()) {
+            config = config.disableKeyPrefix();
+        }
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config)
+                .initialCacheNames(new LinkedHashSet<>(properties.getCacheNames()));
+        if (redis.isEnableStatistics()) {
+            builder.enableStatistics();
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager, CacheInvalidationBus bus,
+            MeterRegistry meterRegistry,
+            @Value("${enrollment.cache.l1.max-size:10000}") long l1MaxSize,
+            @Value("${enrollment.cache.l1.ttl:30s}") Duration l1Ttl) {
+        return new TwoLevelCacheManager(redisCacheManager, bus, meterRegistry, l1MaxSize, l1Ttl);
+    }
+
+    /**
+     * Subscriptions for the Redis invalidation bus
+     */
+    @Bean
+    @ConditionalOnProperty(name = "enrollment.cache.invalidation.transport", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
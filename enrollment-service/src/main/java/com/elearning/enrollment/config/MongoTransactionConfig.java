@@ -0,0 +1,25 @@
+package com.elearning.enrollment.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Commit an enrollment change and its outbox event atomically
+ *
+ * Multi-document transactions need a replica set, so this is opt-in
+ * (enrollment.outbox.transactional=true). Without it the two writes are
+ * sequential; a count change lost to a crash between them is corrected
+ * by EnrollmentCountReconciler.
+ */
+@Configuration
+@ConditionalOnProperty(name = "enrollment.outbox.transactional", havingValue = "true")
+public class MongoTransactionConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
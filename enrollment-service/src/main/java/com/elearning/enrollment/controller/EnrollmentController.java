@@ -1,18 +1,35 @@
 package com.elearning.enrollment.controller;
 
+import com.elearning.enrollment.dto.BulkEnrollmentRequest;
+import com.elearning.enrollment.dto.BulkEnrollmentResult;
+import com.elearning.enrollment.dto.EnrollmentCounts;
+import com.elearning.enrollment.dto.EnrollmentPageResponse;
+import com.elearning.enrollment.dto.EnrollmentProgressBatchRequest;
+import com.elearning.enrollment.dto.EnrollmentProgressBatchResponse;
+import com.elearning.enrollment.dto.EnrollmentProgressRequest;
 import com.elearning.enrollment.dto.EnrollmentRequest;
 import com.elearning.enrollment.dto.EnrollmentResponse;
 import com.elearning.enrollment.dto.ProgressUpdateRequest;
 import com.elearning.enrollment.model.Enrollment;
+import com.elearning.enrollment.model.EnrollmentStatus;
 import com.elearning.enrollment.service.EnrollmentService;
+import com.elearning.enrollment.service.ProgressUpdateResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,7 +38,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EnrollmentController {
 
+    private static final int MAX_ROSTER_PAGE_SIZE = 500;
+
     private final EnrollmentService enrollmentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/enroll")
     public ResponseEntity<EnrollmentResponse> enrollInCourse(
@@ -45,6 +65,45 @@ public class EnrollmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Enroll a cohort into a course - admins only
+     * Streams one JSON line per student (application/x-ndjson) as chunks complete
+     */
+    @PostMapping(value = "/bulk-enroll", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> bulkEnroll(
+            @RequestHeader("X-User-Email") String email,
+            @RequestHeader("X-User-Role") String role,
+            @Valid @RequestBody BulkEnrollmentRequest request) {
+
+        log.info("Bulk enrollment request from user '{}' for course '{}' ({} students)",
+                email, request.getCourseId(), request.getStudents().size());
+
+        if (!"ADMIN".equals(role)) {
+            log.warn("Non-admin user '{}' attempted a bulk enrollment", email);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Resolved before streaming so an unknown course is still a plain 404
+        String courseTitle = enrollmentService.requireCourseTitle(request.getCourseId());
+
+        StreamingResponseBody body = out -> {
+            SequenceWriter writer = objectMapper.writerFor(BulkEnrollmentResult.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out);
+            enrollmentService.bulkEnroll(request.getCourseId(), courseTitle, request.getStudents(), results -> {
+                try {
+                    writer.writeAll(results);
+                    writer.flush(); // one flush per chunk
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
     @GetMapping("/my-enrollments")
     public ResponseEntity<List<EnrollmentResponse>> getMyEnrollments(
             @RequestHeader("X-User-Email") String studentEmail) {
@@ -70,15 +129,22 @@ public class EnrollmentController {
     }
 
     @GetMapping("/course/{courseId}")
-    public ResponseEntity<List<EnrollmentResponse>> getCourseEnrollments(@PathVariable String courseId) {
-        log.info("Fetching enrollments for course '{}'", courseId);
+    public ResponseEntity<EnrollmentPageResponse> getCourseEnrollments(
+            @PathVariable String courseId,
+            @RequestParam(required = false) List<EnrollmentStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
 
-        List<EnrollmentResponse> enrollments = enrollmentService.getCourseEnrollments(courseId)
-                .stream()
-                .map(EnrollmentResponse::fromEntity)
-                .collect(Collectors.toList());
+        log.info("Fetching roster of course '{}' (status: {})", courseId, status);
 
-        return ResponseEntity.ok(enrollments);
+        int pageSize = Math.min(Math.max(size, 1), MAX_ROSTER_PAGE_SIZE);
+        return ResponseEntity.ok(enrollmentService.getCourseRoster(courseId, status, cursor, pageSize));
+    }
+
+    @GetMapping("/course/{courseId}/count")
+    public ResponseEntity<EnrollmentCounts> getCourseEnrollmentCounts(@PathVariable String courseId) {
+        log.debug("Fetching enrollment counts for course '{}'", courseId);
+        return ResponseEntity.ok(enrollmentService.getCourseEnrollmentCounts(courseId));
     }
 
     @PutMapping("/progress")
@@ -94,16 +160,59 @@ public class EnrollmentController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        Enrollment enrollment = enrollmentService.updateProgress(
+        ProgressUpdateResult result = enrollmentService.updateProgress(
                 studentEmail,
                 request.getCourseId(),
                 request.getProgress());
 
-        EnrollmentResponse response = EnrollmentResponse.fromEntity(enrollment);
+        EnrollmentResponse response = EnrollmentResponse.fromEntity(result.getEnrollment());
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Raise progress of one enrollment - called by Progress Service
+     * Stale or lower values are ignored; the response is the stored enrollment either way
+     */
+    @PutMapping("/{enrollmentId}/progress")
+    public ResponseEntity<EnrollmentResponse> advanceProgress(
+            @PathVariable String enrollmentId,
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @Valid @RequestBody EnrollmentProgressRequest request) {
+
+        if (!isServiceOrAdmin(role)) {
+            log.warn("User with role '{}' attempted to set progress of enrollment '{}'", role, enrollmentId);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        ProgressUpdateResult result = enrollmentService.advanceProgress(enrollmentId, request.progressPercentage());
+        return ResponseEntity.ok(EnrollmentResponse.fromEntity(result.getEnrollment()));
+    }
+
+    /**
+     * Raise progress of many enrollments at once - called by Progress Service
+     * Duplicate ids keep the highest value
+     */
+    @PutMapping("/progress/batch")
+    public ResponseEntity<EnrollmentProgressBatchResponse> advanceProgressBatch(
+            @RequestHeader(value = "X-User-Role", required = false) String role,
+            @Valid @RequestBody EnrollmentProgressBatchRequest request) {
+
+        if (!isServiceOrAdmin(role)) {
+            log.warn("User with role '{}' attempted a batch progress update", role);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Map<String, Integer> progressById = request.getUpdates().stream()
+                .collect(Collectors.toMap(
+                        EnrollmentProgressBatchRequest.Item::getEnrollmentId,
+                        EnrollmentProgressBatchRequest.Item::progressPercentage,
+                        Math::max));
+
+        long updated = enrollmentService.advanceProgressBatch(progressById);
+        return ResponseEntity.ok(new EnrollmentProgressBatchResponse(request.getUpdates().size(), updated));
+    }
+
     @DeleteMapping("/drop")
     public ResponseEntity<Void> dropEnrollment(
             @RequestHeader("X-User-Email") String studentEmail,
@@ -120,4 +229,12 @@ public class EnrollmentController {
         enrollmentService.dropEnrollment(studentEmail, request.getCourseId());
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Service-to-service calls come without gateway headers; through the
+     * gateway only admins may set progress directly
+     */
+    private static boolean isServiceOrAdmin(String role) {
+        return role == null || "ADMIN".equals(role);
+    }
 }
@@ -0,0 +1,41 @@
+package com.elearning.enrollment.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cohort enrollment - POST /bulk-enroll
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentRequest {
+
+    @NotBlank(message = "Course ID is required")
+    private String courseId;
+
+    @NotEmpty(message = "Students are required")
+    @Size(max = 50000, message = "At most 50000 students per request")
+    private List<@Valid Student> students;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Student {
+
+        @NotBlank(message = "Student email is required")
+        @Email(message = "Student email must be valid")
+        private String email;
+
+        private String firstName;
+        private String lastName;
+    }
+}
@@ -0,0 +1,33 @@
+package com.elearning.enrollment.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome for one student of a bulk enrollment - one NDJSON line each
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkEnrollmentResult {
+
+    public enum Status {
+        ENROLLED,
+        ALREADY_ENROLLED, // unique (studentEmail, courseId) index hit
+        DUPLICATE, // same email earlier in the request
+        FAILED
+    }
+
+    private String studentEmail;
+    private Status status;
+    private String enrollmentId;
+    private String error;
+
+    public static BulkEnrollmentResult of(String studentEmail, Status status) {
+        return new BulkEnrollmentResult(studentEmail, status, null, null);
+    }
+}
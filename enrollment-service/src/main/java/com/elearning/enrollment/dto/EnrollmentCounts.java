@@ -0,0 +1,26 @@
+package com.elearning.enrollment.dto;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.elearning.enrollment.model.EnrollmentStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Enrollment counts of a course per status - small enough to cache
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentCounts implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String courseId;
+    private Map<EnrollmentStatus, Long> byStatus = new EnumMap<>(EnrollmentStatus.class);
+    private long total;
+}
@@ -0,0 +1,24 @@
+package com.elearning.enrollment.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a course roster, oldest enrollment first
+ * Pass nextCursor back as ?cursor= to get the next page; null on the last page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentPageResponse {
+
+    private List<EnrollmentResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,45 @@
+package com.elearning.enrollment.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of many enrollments - PUT /progress/batch
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentProgressBatchRequest {
+
+    @NotEmpty(message = "Updates are required")
+    @Size(max = 1000, message = "At most 1000 updates per request")
+    private List<@Valid Item> updates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotBlank(message = "Enrollment ID is required")
+        private String enrollmentId;
+
+        @NotNull(message = "Progress is required")
+        @DecimalMin(value = "0", message = "Progress must be at least 0")
+        @DecimalMax(value = "100", message = "Progress must be at most 100")
+        private Double progress;
+
+        public int progressPercentage() {
+            return (int) Math.floor(progress);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.elearning.enrollment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a batch progress update
+ * updated < requested is normal: stale or unchanged values are skipped
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentProgressBatchResponse {
+
+    private int requested;
+    private long updated;
+}
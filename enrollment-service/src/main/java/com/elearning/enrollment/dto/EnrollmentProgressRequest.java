@@ -0,0 +1,27 @@
+package com.elearning.enrollment.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of one enrollment, as computed by Progress Service
+ * Fractions are rounded down, so 99.5% does not complete the course
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentProgressRequest {
+
+    @NotNull(message = "Progress is required")
+    @DecimalMin(value = "0", message = "Progress must be at least 0")
+    @DecimalMax(value = "100", message = "Progress must be at most 100")
+    private Double progress;
+
+    public int progressPercentage() {
+        return (int) Math.floor(progress);
+    }
+}
@@ -0,0 +1,7 @@
+package com.elearning.enrollment.exception;
+
+public class CourseNotFoundException extends RuntimeException {
+    public CourseNotFoundException(String courseId) {
+        super(String.format("Course '%s' not found", courseId));
+    }
+}
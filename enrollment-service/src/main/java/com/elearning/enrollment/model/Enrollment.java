@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -12,7 +13,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "enrollments")
-@CompoundIndex(name = "student_course_idx", def = "{'studentEmail': 1, 'courseId': 1}", unique = true)
+@CompoundIndexes({
+        @CompoundIndex(name = "student_course_idx", def = "{'studentEmail': 1, 'courseId': 1}", unique = true),
+        // Course rosters and per-status counts (status $in + enrollmentDate/_id keyset)
+        @CompoundIndex(name = "course_status_date_idx", def = "{'courseId': 1, 'status': 1, 'enrollmentDate': 1, '_id': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
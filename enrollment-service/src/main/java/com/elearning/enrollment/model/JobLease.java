@@ -0,0 +1,47 @@
+package com.elearning.enrollment.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lease and checkpoint of a background job that must run on one instance at a time
+ *
+ * One document per job. The instance holding the lease renews it while it
+ * works and stores its progress, so the next holder continues from there.
+ */
+@Document(collection = "enrollment_job_leases")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    /**
+     * Job name
+     */
+    @Id
+    private String id;
+
+    /**
+     * Instance holding the lease, valid until leaseUntil
+     */
+    private String owner;
+    private LocalDateTime leaseUntil;
+
+    /**
+     * Job progress - last processed key, null at the start of a pass
+     */
+    private String cursor;
+
+    /**
+     * Drift corrected so far in the current pass
+     */
+    private long passDrift;
+}
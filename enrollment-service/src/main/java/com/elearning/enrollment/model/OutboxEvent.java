@@ -0,0 +1,79 @@
+package com.elearning.enrollment.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox entry for an enrollment side effect (course enrollment count change)
+ *
+ * Written together with the enrollment change and delivered later by
+ * OutboxDispatcher; deleted once delivered.
+ */
+@Document(collection = "enrollment_outbox")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_next_attempt_idx", def = "{'status': 1, 'nextAttemptAt': 1}"),
+        @CompoundIndex(name = "status_created_idx", def = "{'status': 1, 'createdAt': 1}"),
+        @CompoundIndex(name = "claim_idx", def = "{'claimToken': 1}", sparse = true),
+        @CompoundIndex(name = "course_status_idx", def = "{'courseId': 1, 'status': 1}")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    private OutboxEventType type;
+    private String enrollmentId;
+    private String courseId;
+
+    /**
+     * Enrollment count change for the course
+     */
+    private int delta;
+
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+
+    /**
+     * Set while a dispatcher instance holds the event (until nextAttemptAt)
+     */
+    private String claimToken;
+
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent enrollmentCountChange(OutboxEventType type, Enrollment enrollment, int delta) {
+        return enrollmentCountChange(type, enrollment.getCourseId(), enrollment.getId(), delta);
+    }
+
+    /**
+     * @param enrollmentId single enrollment behind the change, null for bulk changes
+     */
+    public static OutboxEvent enrollmentCountChange(OutboxEventType type, String courseId, String enrollmentId,
+            int delta) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .type(type)
+                .enrollmentId(enrollmentId)
+                .courseId(courseId)
+                .delta(delta)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.elearning.enrollment.model;
+
+public enum OutboxEventType {
+    ENROLLED,
+    DROPPED,
+    BULK_ENROLLED // one event per bulk-enrollment chunk, delta = students inserted
+}
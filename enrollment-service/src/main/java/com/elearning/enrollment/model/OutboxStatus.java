@@ -0,0 +1,6 @@
+package com.elearning.enrollment.model;
+
+public enum OutboxStatus {
+    PENDING, // waiting for (re)delivery
+    DEAD // gave up after max attempts, kept for inspection
+}
@@ -0,0 +1,52 @@
+package com.elearning.enrollment.repository;
+
+import java.util.Map;
+
+import com.elearning.enrollment.model.Enrollment;
+
+/**
+ * Monotonic progress and status writes - custom fragment of EnrollmentRepository
+ *
+ * Progress only moves forward: a write that would not raise
+ * progressPercentage matches nothing and is not applied. Reaching 100
+ * sets COMPLETED and completionDate in the same update. Dropped
+ * enrollments are never touched.
+ *
+ * Each write is a single conditional update, so concurrent writers
+ * neither lose each other's fields nor apply the same transition twice.
+ */
+public interface EnrollmentProgressRepository {
+
+    /**
+     * Raise progress of one enrollment
+     *
+     * @return the enrollment after the update, or null if nothing changed
+     *         (unknown id, dropped, or progress not higher)
+     */
+    Enrollment advanceProgressById(String enrollmentId, int progress);
+
+    /**
+     * Raise a student's progress in a course
+     *
+     * @return the enrollment after the update, or null if nothing changed
+     *         (not enrolled, dropped, or progress not higher)
+     */
+    Enrollment advanceProgress(String studentEmail, String courseId, int progress);
+
+    /**
+     * Raise progress of many enrollments with one unordered bulkWrite
+     *
+     * @param progressById enrollment id -> new progress
+     * @return number of enrollments actually changed
+     */
+    long advanceProgressByIds(Map<String, Integer> progressById);
+
+    /**
+     * Set a student's enrollment in a course to DROPPED, only if it is not
+     * DROPPED already - of two concurrent drops exactly one matches
+     *
+     * @return the enrollment after the update, or null if nothing changed
+     *         (not enrolled, or already dropped)
+     */
+    Enrollment drop(String studentEmail, String courseId);
+}
@@ -0,0 +1,93 @@
+package com.elearning.enrollment.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.elearning.enrollment.model.Enrollment;
+import com.elearning.enrollment.model.EnrollmentStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class EnrollmentProgressRepositoryImpl implements EnrollmentProgressRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Enrollment advanceProgressById(String enrollmentId, int progress) {
+        return mongoTemplate.findAndModify(
+                advanceable(Criteria.where("_id").is(enrollmentId), progress),
+                advance(progress, LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                Enrollment.class);
+    }
+
+    /**
+     * Matched through the unique student_course_idx
+     */
+    @Override
+    public Enrollment advanceProgress(String studentEmail, String courseId, int progress) {
+        return mongoTemplate.findAndModify(
+                advanceable(Criteria.where("studentEmail").is(studentEmail).and("courseId").is(courseId), progress),
+                advance(progress, LocalDateTime.now()),
+                FindAndModifyOptions.options().returnNew(true),
+                Enrollment.class);
+    }
+
+    @Override
+    public long advanceProgressByIds(Map<String, Integer> progressById) {
+        if (progressById.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Enrollment.class);
+        progressById.forEach((enrollmentId, progress) -> bulk.updateOne(
+                advanceable(Criteria.where("_id").is(enrollmentId), progress),
+                advance(progress, now)));
+        return bulk.execute().getModifiedCount();
+    }
+
+    /**
+     * Matched through the unique student_course_idx; only status is written,
+     * so a concurrent progress update is not overwritten
+     */
+    @Override
+    public Enrollment drop(String studentEmail, String courseId) {
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("studentEmail").is(studentEmail).and("courseId").is(courseId)
+                        .and("status").ne(EnrollmentStatus.DROPPED)),
+                new Update().set("status", EnrollmentStatus.DROPPED),
+                FindAndModifyOptions.options().returnNew(true),
+                Enrollment.class);
+    }
+
+    /**
+     * key AND not dropped AND (progressPercentage < progress OR no progress yet)
+     */
+    static Query advanceable(Criteria key, int progress) {
+        return Query.query(key
+                .and("status").ne(EnrollmentStatus.DROPPED)
+                .orOperator(
+                        Criteria.where("progressPercentage").lt(progress),
+                        Criteria.where("progressPercentage").is(null)));
+    }
+
+    static Update advance(int progress, LocalDateTime now) {
+        Update update = new Update()
+                .set("progressPercentage", progress)
+                .set("lastAccessDate", now);
+        if (progress >= 100) {
+            update.set("status", EnrollmentStatus.COMPLETED)
+                    .set("completionDate", now);
+        }
+        return update;
+    }
+}
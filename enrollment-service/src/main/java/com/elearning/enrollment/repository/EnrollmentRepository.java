@@ -8,7 +8,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import com.elearning.enrollment.model.Enrollment;
 import com.elearning.enrollment.model.EnrollmentStatus;
 
-public interface EnrollmentRepository extends MongoRepository<Enrollment, String> {
+public interface EnrollmentRepository extends MongoRepository<Enrollment, String>, EnrollmentRosterRepository,
+        EnrollmentProgressRepository {
 
     // Find all enrollments for a student
     List<Enrollment> findByStudentEmail(String studentEmail);
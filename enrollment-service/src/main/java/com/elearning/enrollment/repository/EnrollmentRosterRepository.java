@@ -0,0 +1,40 @@
+package com.elearning.enrollment.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.elearning.enrollment.model.Enrollment;
+import com.elearning.enrollment.model.EnrollmentStatus;
+
+/**
+ * Course roster queries - custom fragment of EnrollmentRepository
+ * Served by the (courseId, status, enrollmentDate, _id) index
+ */
+public interface EnrollmentRosterRepository {
+
+    /**
+     * One roster page in (enrollmentDate, id) order
+     *
+     * @param afterDate enrollmentDate of the last enrollment of the previous page, null on the first page
+     * @param afterId id of the last enrollment of the previous page, null on the first page
+     */
+    List<Enrollment> findRosterPage(String courseId, Collection<EnrollmentStatus> statuses,
+                                    LocalDateTime afterDate, String afterId, int limit);
+
+    /**
+     * Number of enrollments of a course per status, from the index only
+     */
+    Map<EnrollmentStatus, Long> countByCourseIdGroupByStatus(String courseId);
+
+    /**
+     * Enrollments that are not DROPPED (ACTIVE and COMPLETED) of the given
+     * courses, with one grouped aggregation - the same set the enroll/drop
+     * outbox deltas keep Course.enrollmentCount in step with
+     * Courses without such enrollments are included with 0
+     *
+     * @return course id -> enrolled count
+     */
+    Map<String, Long> countEnrolledByCourseIdIn(Collection<String> courseIds);
+}
@@ -0,0 +1,82 @@
+package com.elearning.enrollment.repository;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.elearning.enrollment.model.Enrollment;
+import com.elearning.enrollment.model.EnrollmentStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class EnrollmentRosterRepositoryImpl implements EnrollmentRosterRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * status is always matched with $in (all statuses if none are given) so the
+     * query stays on the index and merges the per-status ranges in sort order
+     */
+    @Override
+    public List<Enrollment> findRosterPage(String courseId, Collection<EnrollmentStatus> statuses,
+                                           LocalDateTime afterDate, String afterId, int limit) {
+        Criteria criteria = Criteria.where("courseId").is(courseId).and("status").in(statuses);
+        if (afterId != null) {
+            criteria.orOperator(
+                    Criteria.where("enrollmentDate").gt(afterDate),
+                    Criteria.where("enrollmentDate").is(afterDate).and("_id").gt(new ObjectId(afterId)));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "enrollmentDate", "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, Enrollment.class);
+    }
+
+    @Override
+    public Map<EnrollmentStatus, Long> countByCourseIdGroupByStatus(String courseId) {
+        Map<EnrollmentStatus, Long> counts = new EnumMap<>(EnrollmentStatus.class);
+        mongoTemplate.aggregate(
+                newAggregation(
+                        match(Criteria.where("courseId").is(courseId)),
+                        group("status").count().as("count")),
+                Enrollment.class, Document.class)
+                .forEach(doc -> {
+                    if (doc.getString("_id") != null) {
+                        counts.put(EnrollmentStatus.valueOf(doc.getString("_id")), doc.getInteger("count").longValue());
+                    }
+                });
+        return counts;
+    }
+
+    /**
+     * Only the given courses' ACTIVE and COMPLETED ranges of the (courseId, status, ...) index are read
+     */
+    @Override
+    public Map<String, Long> countEnrolledByCourseIdIn(Collection<String> courseIds) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        courseIds.forEach(courseId -> counts.put(courseId, 0L));
+        mongoTemplate.aggregate(
+                newAggregation(
+                        match(Criteria.where("courseId").in(courseIds).and("status").ne(EnrollmentStatus.DROPPED.name())),
+                        group("courseId").count().as("enrolled")),
+                Enrollment.class, Document.class)
+                .forEach(doc -> counts.put(doc.getString("_id"), doc.get("enrolled", Number.class).longValue()));
+        return counts;
+    }
+}
@@ -0,0 +1,19 @@
+package com.elearning.enrollment.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.elearning.enrollment.model.OutboxEvent;
+import com.elearning.enrollment.model.OutboxStatus;
+
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+
+    long countByStatus(OutboxStatus status);
+
+    // Oldest undelivered event - its age is the dispatch lag
+    Optional<OutboxEvent> findFirstByStatusOrderByCreatedAtAsc(OutboxStatus status);
+
+    // Does a course still have undelivered count changes?
+    boolean existsByCourseIdAndStatus(String courseId, OutboxStatus status);
+}
@@ -0,0 +1,253 @@
+package com.elearning.enrollment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.elearning.enrollment.client.CourseServiceClient;
+import com.elearning.enrollment.client.CourseServiceClient.CountCorrection;
+import com.elearning.enrollment.client.CourseServiceClient.CountSnapshot;
+import com.elearning.enrollment.model.JobLease;
+import com.elearning.enrollment.model.OutboxEvent;
+import com.elearning.enrollment.model.OutboxStatus;
+import com.elearning.enrollment.repository.EnrollmentRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Enrollment count reconciliation
+ *
+ * Course.enrollmentCount is maintained from outbox deltas and can still
+ * drift (events parked as DEAD, a crash between an enrollment write and its
+ * outbox event, a re-delivered batch). This job walks all courses in
+ * courseId order, a page at a time: it reads the page's stored counts and
+ * their versions from Course Service, computes the authoritative counts of
+ * just those courses with one grouped aggregation and sends them back.
+ * Course Service overwrites the counts that differ, unless a delta was
+ * written since the version was read.
+ *
+ * The count is of enrollments that are not DROPPED (ACTIVE and COMPLETED),
+ * matching the deltas: +1 on enroll, -1 on drop, nothing on completion.
+ *
+ * Courses with undelivered outbox events are skipped - their stored count
+ * is legitimately behind - and picked up on the next pass.
+ *
+ * Work is rate-limited: each run handles at most pages-per-run pages with
+ * a pause between them. Only one instance runs at a time, under a lease in
+ * enrollment_job_leases, which also holds the cursor, so the next run - on
+ * any instance - continues where the last one stopped.
+ */
+@Component
+@ConditionalOnProperty(name = "enrollment.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class EnrollmentCountReconciler {
+
+    private static final String JOB = "enrollment-count-reconciliation";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final MongoTemplate mongoTemplate;
+    private final CourseServiceClient courseServiceClient;
+
+    private final int pageSize;
+    private final int pagesPerRun;
+    private final Duration pauseBetweenPages;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final AtomicLong lastPassDrift = new AtomicLong();
+
+    private final Counter checkedCourses;
+    private final Counter correctedCourses;
+    private final Counter skippedCourses;
+    private final DistributionSummary drift;
+    private final Timer pageTimer;
+
+    public EnrollmentCountReconciler(
+            EnrollmentRepository enrollmentRepository,
+            MongoTemplate mongoTemplate,
+            CourseServiceClient courseServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${enrollment.reconciliation.page-size:200}") int pageSize,
+            @Value("${enrollment.reconciliation.pages-per-run:10}") int pagesPerRun,
+            @Value("${enrollment.reconciliation.pause-between-pages:2s}") Duration pauseBetweenPages,
+            @Value("${enrollment.reconciliation.lease:5m}") Duration lease) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.courseServiceClient = courseServiceClient;
+        this.pageSize = pageSize;
+        this.pagesPerRun = pagesPerRun;
+        this.pauseBetweenPages = pauseBetweenPages;
+        this.lease = lease;
+
+        this.checkedCourses = meterRegistry.counter("enrollment.reconciliation.courses", "result", "checked");
+        this.correctedCourses = meterRegistry.counter("enrollment.reconciliation.courses", "result", "corrected");
+        this.skippedCourses = meterRegistry.counter("enrollment.reconciliation.courses", "result", "skipped");
+        this.drift = meterRegistry.summary("enrollment.reconciliation.drift");
+        this.pageTimer = meterRegistry.timer("enrollment.reconciliation.page");
+        meterRegistry.gauge("enrollment.reconciliation.last.pass.drift", lastPassDrift);
+    }
+
+    /**
+     * Reconcile the next few pages of courses, if no other instance is doing it
+     */
+    @Scheduled(cron = "${enrollment.reconciliation.cron:0 */10 * * * *}")
+    public synchronized void run() {
+        JobLease checkpoint = acquireLease();
+        if (checkpoint == null) {
+            log.debug("Enrollment count reconciliation is running on another instance");
+            return;
+        }
+
+        String cursor = checkpoint.getCursor();
+        long passDrift = checkpoint.getPassDrift();
+        try {
+            for (int page = 0; page < pagesPerRun; page++) {
+                if (page > 0 && !pause()) {
+                    return;
+                }
+
+                List<CountSnapshot> stored = courseServiceClient.getEnrollmentCounts(cursor, pageSize);
+                if (!stored.isEmpty()) {
+                    passDrift += pageTimer.record(() -> reconcilePage(stored));
+                }
+
+                if (stored.size() < pageSize) {
+                    log.info("Enrollment count reconciliation pass complete, total drift {}", passDrift);
+                    lastPassDrift.set(passDrift);
+                    saveCheckpoint(null, 0);
+                    return;
+                }
+                cursor = stored.get(stored.size() - 1).getCourseId();
+                if (!saveCheckpoint(cursor, passDrift)) {
+                    log.warn("Enrollment count reconciliation lease lost after course {}", cursor);
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Same page is retried on the next run
+            log.warn("Enrollment count reconciliation stopped after course {}: {}", cursor, e.getMessage());
+        } finally {
+            releaseLease();
+        }
+    }
+
+    /**
+     * Count, then check the outbox: an event written after the count is either
+     * still pending here, or its delivery changed the version read before
+     *
+     * @return drift corrected on this page
+     */
+    private long reconcilePage(List<CountSnapshot> stored) {
+        Map<String, Long> counts = enrollmentRepository.countEnrolledByCourseIdIn(
+                stored.stream().map(CountSnapshot::getCourseId).toList());
+
+        Set<String> pending = new HashSet<>(mongoTemplate.findDistinct(
+                Query.query(Criteria.where("courseId").in(counts.keySet()).and("status").is(OutboxStatus.PENDING)),
+                "courseId", OutboxEvent.class, String.class));
+        skippedCourses.increment(pending.size());
+
+        List<CountSnapshot> settled = stored.stream()
+                .filter(course -> !pending.contains(course.getCourseId()))
+                .map(course -> new CountSnapshot(course.getCourseId(), counts.get(course.getCourseId()),
+                        course.getVersion()))
+                .toList();
+        if (settled.isEmpty()) {
+            return 0;
+        }
+
+        List<CountCorrection> corrections = courseServiceClient.reconcileEnrollmentCounts(settled);
+        checkedCourses.increment(settled.size());
+        correctedCourses.increment(corrections.size());
+        long pageDrift = 0;
+        for (CountCorrection correction : corrections) {
+            long difference = Math.abs(correction.getPrevious() - correction.getActual());
+            drift.record(difference);
+            pageDrift += difference;
+            log.info("Enrollment count of course '{}' corrected: {} -> {}",
+                    correction.getCourseId(), correction.getPrevious(), correction.getActual());
+        }
+        return pageDrift;
+    }
+
+    /**
+     * Take the lease if it is free or expired
+     *
+     * @return the job's checkpoint, or null if another instance holds the lease
+     */
+    private JobLease acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        Query free = Query.query(Criteria.where("_id").is(JOB).orOperator(
+                Criteria.where("leaseUntil").lt(now),
+                Criteria.where("owner").is(instanceId)));
+        try {
+            return mongoTemplate.findAndModify(free,
+                    new Update().set("owner", instanceId).set("leaseUntil", now.plus(lease)),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    JobLease.class);
+        } catch (DuplicateKeyException e) {
+            // The document exists and is held - the upsert tried to insert a second one
+            return null;
+        }
+    }
+
+    /**
+     * Store progress and renew the lease
+     *
+     * @return false if the lease expired and was taken by another instance
+     */
+    private boolean saveCheckpoint(String cursor, long passDrift) {
+        Update update = new Update()
+                .set("passDrift", passDrift)
+                .set("leaseUntil", LocalDateTime.now().plus(lease));
+        if (cursor == null) {
+            update.unset("cursor");
+        } else {
+            update.set("cursor", cursor);
+        }
+        return mongoTemplate.updateFirst(heldByThisInstance(), update, JobLease.class).getMatchedCount() > 0;
+    }
+
+    private void releaseLease() {
+        try {
+            mongoTemplate.updateFirst(heldByThisInstance(), new Update().set("leaseUntil", LocalDateTime.now()),
+                    JobLease.class);
+        } catch (RuntimeException e) {
+            // Expires on its own
+            log.warn("Could not release enrollment count reconciliation lease: {}", e.getMessage());
+        }
+    }
+
+    private Query heldByThisInstance() {
+        return Query.query(Criteria.where("_id").is(JOB).and("owner").is(instanceId));
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenPages);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
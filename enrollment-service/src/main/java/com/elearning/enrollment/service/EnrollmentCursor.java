@@ -0,0 +1,50 @@
+package com.elearning.enrollment.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.bson.types.ObjectId;
+
+import com.elearning.enrollment.exception.InvalidCursorException;
+import com.elearning.enrollment.model.Enrollment;
+
+import lombok.Value;
+
+/**
+ * Roster pagination cursor
+ *
+ * Position of the last enrollment on a page in (enrollmentDate, id) order.
+ * Clients only see the opaque base64url form.
+ */
+@Value
+public class EnrollmentCursor {
+
+    LocalDateTime enrollmentDate;
+    String id;
+
+    public static EnrollmentCursor of(Enrollment enrollment) {
+        return new EnrollmentCursor(enrollment.getEnrollmentDate(), enrollment.getId());
+    }
+
+    public String encode() {
+        String raw = enrollmentDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EnrollmentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0 || !ObjectId.isValid(raw.substring(separator + 1))) {
+                throw new InvalidCursorException(token);
+            }
+            return new EnrollmentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -1,19 +1,46 @@
 package com.elearning.enrollment.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.elearning.enrollment.client.CourseServiceClient;
+import com.elearning.enrollment.dto.BulkEnrollmentRequest;
+import com.elearning.enrollment.dto.BulkEnrollmentResult;
+import com.elearning.enrollment.dto.EnrollmentCounts;
+import com.elearning.enrollment.dto.EnrollmentPageResponse;
+import com.elearning.enrollment.dto.EnrollmentResponse;
+import com.elearning.enrollment.exception.CourseNotFoundException;
 import com.elearning.enrollment.exception.DuplicateEnrollmentException;
 import com.elearning.enrollment.exception.EnrollmentNotFoundException;
 import com.elearning.enrollment.exception.InvalidProgressException;
 import com.elearning.enrollment.model.Enrollment;
 import com.elearning.enrollment.model.EnrollmentStatus;
+import com.elearning.enrollment.model.OutboxEvent;
+import com.elearning.enrollment.model.OutboxEventType;
 import com.elearning.enrollment.repository.EnrollmentRepository;
+import com.elearning.enrollment.repository.OutboxEventRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,10 +50,30 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EnrollmentService {
 
+    /**
+     * Cache families - one Redis cache each, so writes evict exactly the
+     * entries they touch and hit rates are reported per family
+     */
+    public static final String STUDENT_ENROLLMENTS = "studentEnrollments"; // key: student email
+    public static final String COURSE_ENROLLMENT_COUNTS = "courseEnrollmentCounts"; // key: course id
+    public static final String ENROLLMENT = "enrollment"; // key: enrollment id
+
+    private static final int DUPLICATE_KEY = 11000;
+
     private final EnrollmentRepository enrollmentRepository;
+    private final OutboxEventRepository outboxEventRepository;
     private final CourseServiceClient courseServiceClient;
+    private final CacheManager cacheManager;
+    private final MongoTemplate mongoTemplate;
 
-    @CacheEvict(value = "enrollments", allEntries = true)
+    @Value("${enrollment.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+    @Caching(evict = {
+            @CacheEvict(value = STUDENT_ENROLLMENTS, key = "#studentEmail"),
+            @CacheEvict(value = COURSE_ENROLLMENT_COUNTS, key = "#courseId")
+    })
+    @Transactional
     public Enrollment enrollStudent(String studentEmail, String firstName, String lastName, String courseId) {
         log.info("Attempting to enroll student '{}' in course '{}'", studentEmail, courseId);
 
@@ -53,20 +100,135 @@ public class EnrollmentService {
         log.info("Successfully enrolled student '{}' in course '{}' with enrollment ID '{}'",
                 studentEmail, courseId, saved.getId());
 
-        // TODO: Phase 2 - Replace with RabbitMQ event publishing (StudentEnrolledEvent)
-        // This synchronous REST call should be replaced with async event-driven
-        // architecture
+        // Course enrollment count is updated asynchronously by OutboxDispatcher
+        outboxEventRepository.save(OutboxEvent.enrollmentCountChange(OutboxEventType.ENROLLED, saved, 1));
+
+        return saved;
+    }
+
+    /**
+     * Title of a course that is about to receive a bulk enrollment
+     *
+     * @throws CourseNotFoundException if the course does not exist
+     */
+    public String requireCourseTitle(String courseId) {
+        String courseTitle = courseServiceClient.findCourseTitle(courseId);
+        if (courseTitle == null) {
+            throw new CourseNotFoundException(courseId);
+        }
+        return courseTitle;
+    }
+
+    /**
+     * Enroll a cohort into one course
+     *
+     * Students are inserted in chunks with unordered bulk inserts; a
+     * duplicate-key error on student_course_idx means "already enrolled",
+     * so there is no per-student existence check. Each chunk adds one
+     * outbox event carrying its net count delta. The results of each chunk
+     * are handed to the sink as soon as it completes, in request order.
+     *
+     * @param courseTitle from requireCourseTitle, resolved once for the whole cohort
+     */
+    public void bulkEnroll(String courseId, String courseTitle, List<BulkEnrollmentRequest.Student> students,
+            Consumer<List<BulkEnrollmentResult>> sink) {
+        log.info("Bulk enrolling {} students in course '{}'", students.size(), courseId);
+
+        Set<String> seen = new HashSet<>();
+        long enrolled = 0;
+        long skipped = 0;
+
+        for (int from = 0; from < students.size(); from += bulkChunkSize) {
+            List<BulkEnrollmentRequest.Student> chunk = students.subList(from,
+                    Math.min(from + bulkChunkSize, students.size()));
+
+            BulkEnrollmentResult[] results = new BulkEnrollmentResult[chunk.size()];
+            List<Enrollment> toInsert = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            LocalDateTime now = LocalDateTime.now();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                BulkEnrollmentRequest.Student student = chunk.get(i);
+                if (!seen.add(student.getEmail())) {
+                    results[i] = BulkEnrollmentResult.of(student.getEmail(), BulkEnrollmentResult.Status.DUPLICATE);
+                    continue;
+                }
+                Enrollment enrollment = new Enrollment();
+                enrollment.setId(new ObjectId().toHexString()); // known up front, reported per student
+                enrollment.setStudentEmail(student.getEmail());
+                enrollment.setStudentFirstName(student.getFirstName());
+                enrollment.setStudentLastName(student.getLastName());
+                enrollment.setCourseId(courseId);
+                enrollment.setCourseTitle(courseTitle);
+                enrollment.setEnrollmentDate(now);
+                enrollment.setStatus(EnrollmentStatus.ACTIVE);
+                enrollment.setProgressPercentage(0);
+                enrollment.setLastAccessDate(now);
+                toInsert.add(enrollment);
+                positions.add(i);
+            }
+
+            int inserted = insertChunk(toInsert, positions, results);
+            if (inserted > 0) {
+                outboxEventRepository.save(
+                        OutboxEvent.enrollmentCountChange(OutboxEventType.BULK_ENROLLED, courseId, null, inserted));
+            }
+
+            for (BulkEnrollmentResult result : results) {
+                if (result.getStatus() == BulkEnrollmentResult.Status.ENROLLED) {
+                    evict(STUDENT_ENROLLMENTS, result.getStudentEmail());
+                }
+            }
+            sink.accept(Arrays.asList(results));
+            enrolled += inserted;
+            skipped += chunk.size() - inserted;
+        }
+
+        evict(COURSE_ENROLLMENT_COUNTS, courseId);
+        log.info("Bulk enrollment in course '{}' done: {} enrolled, {} not enrolled", courseId, enrolled, skipped);
+    }
+
+    /**
+     * Unordered insert of one chunk, filling in the result of each student
+     *
+     * @return number of enrollments inserted
+     */
+    private int insertChunk(List<Enrollment> enrollments, List<Integer> positions, BulkEnrollmentResult[] results) {
+        if (enrollments.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, BulkEnrollmentResult> failures = new HashMap<>();
         try {
-            courseServiceClient.incrementEnrollmentCount(courseId);
-            log.info("Incremented enrollment count for course '{}'", courseId);
-        } catch (Exception e) {
-            log.error("Failed to increment enrollment count for course '{}': {}", courseId, e.getMessage());
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Enrollment.class)
+                    .insert(enrollments)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // Unordered: everything not reported here was inserted
+            e.getErrors().forEach(error -> {
+                String email = enrollments.get(error.getIndex()).getStudentEmail();
+                failures.put(error.getIndex(), error.getCode() == DUPLICATE_KEY
+                        ? BulkEnrollmentResult.of(email, BulkEnrollmentResult.Status.ALREADY_ENROLLED)
+                        : new BulkEnrollmentResult(email, BulkEnrollmentResult.Status.FAILED, null, error.getMessage()));
+            });
+        } catch (RuntimeException e) {
+            // Outcome unknown - report the whole chunk as failed; reconciliation fixes the count if some made it
+            log.error("Bulk insert of {} enrollments failed: {}", enrollments.size(), e.getMessage());
+            for (int i = 0; i < enrollments.size(); i++) {
+                failures.put(i, new BulkEnrollmentResult(enrollments.get(i).getStudentEmail(),
+                        BulkEnrollmentResult.Status.FAILED, null, "Enrollment could not be saved"));
+            }
         }
 
-        return saved;
+        for (int i = 0; i < enrollments.size(); i++) {
+            Enrollment enrollment = enrollments.get(i);
+            results[positions.get(i)] = failures.getOrDefault(i, new BulkEnrollmentResult(
+                    enrollment.getStudentEmail(), BulkEnrollmentResult.Status.ENROLLED, enrollment.getId(), null));
+        }
+        return enrollments.size() - failures.size();
     }
 
-    @Cacheable(value = "enrollments", key = "'student:' + #studentEmail")
+    @Cacheable(value = STUDENT_ENROLLMENTS, key = "#studentEmail")
     public List<Enrollment> getStudentEnrollments(String studentEmail) {
         log.debug("Fetching enrollments for student '{}'", studentEmail);
         List<Enrollment> enrollments = enrollmentRepository.findByStudentEmail(studentEmail);
@@ -74,7 +236,7 @@ public class EnrollmentService {
         return enrollments;
     }
 
-    @Cacheable(value = "enrollments", key = "'enrollment:' + #enrollmentId")
+    @Cacheable(value = ENROLLMENT, key = "#enrollmentId")
     public Enrollment getEnrollmentById(String enrollmentId) {
         log.debug("Fetching enrollment by ID: {}", enrollmentId);
         return enrollmentRepository.findById(enrollmentId)
@@ -84,16 +246,58 @@ public class EnrollmentService {
                 });
     }
 
-    @Cacheable(value = "enrollments", key = "'course:' + #courseId")
-    public List<Enrollment> getCourseEnrollments(String courseId) {
-        log.debug("Fetching enrollments for course '{}'", courseId);
-        List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        log.debug("Found {} enrollments for course '{}'", enrollments.size(), courseId);
-        return enrollments;
+    /**
+     * One page of a course roster, oldest enrollment first
+     * Not cached - rosters can be huge; fetches one extra row to detect the next page
+     *
+     * @param statuses statuses to include, all if null or empty
+     * @param cursor token from the previous page, null for the first page
+     */
+    public EnrollmentPageResponse getCourseRoster(String courseId, Collection<EnrollmentStatus> statuses,
+            String cursor, int size) {
+        log.debug("Fetching roster page for course '{}' (statuses: {}, size: {})", courseId, statuses, size);
+
+        Collection<EnrollmentStatus> filter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(EnrollmentStatus.class)
+                : statuses;
+        EnrollmentCursor after = cursor == null || cursor.isBlank() ? null : EnrollmentCursor.decode(cursor);
+
+        List<Enrollment> rows = enrollmentRepository.findRosterPage(courseId, filter,
+                after == null ? null : after.getEnrollmentDate(),
+                after == null ? null : after.getId(),
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<Enrollment> page = hasNext ? rows.subList(0, size) : rows;
+
+        return EnrollmentPageResponse.builder()
+                .content(page.stream().map(EnrollmentResponse::fromEntity).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? EnrollmentCursor.of(page.get(size - 1)).encode() : null)
+                .build();
+    }
+
+    @Cacheable(value = COURSE_ENROLLMENT_COUNTS, key = "#courseId")
+    public EnrollmentCounts getCourseEnrollmentCounts(String courseId) {
+        log.debug("Counting enrollments for course '{}'", courseId);
+        Map<EnrollmentStatus, Long> byStatus = enrollmentRepository.countByCourseIdGroupByStatus(courseId);
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new EnrollmentCounts(courseId, byStatus, total);
     }
 
-    @CacheEvict(value = "enrollments", allEntries = true)
-    public Enrollment updateProgress(String studentEmail, String courseId, Integer progress) {
+    /**
+     * Raise a student's progress in a course with one conditional findAndModify
+     * Lower or equal values are skipped without a write; caches are only evicted on a change
+     *
+     * @throws EnrollmentNotFoundException if the student is not enrolled in the course
+     */
+    @Caching(evict = {
+            @CacheEvict(value = STUDENT_ENROLLMENTS, key = "#studentEmail", condition = "#result.changed"),
+            @CacheEvict(value = COURSE_ENROLLMENT_COUNTS, key = "#courseId", condition = "#result.completedNow"),
+            @CacheEvict(value = ENROLLMENT, key = "#result.enrollment.id", condition = "#result.changed")
+    })
+    public ProgressUpdateResult updateProgress(String studentEmail, String courseId, Integer progress) {
         log.info("Updating progress for student '{}' in course '{}' to {}%", studentEmail, courseId, progress);
 
         if (progress < 0 || progress > 100) {
@@ -101,52 +305,125 @@ public class EnrollmentService {
             throw new InvalidProgressException(progress);
         }
 
-        Enrollment enrollment = enrollmentRepository.findByStudentEmailAndCourseId(studentEmail, courseId)
-                .orElseThrow(() -> {
-                    log.error("Enrollment not found for student '{}' in course '{}'", studentEmail, courseId);
-                    return new EnrollmentNotFoundException(studentEmail, courseId);
-                });
-
-        enrollment.setProgressPercentage(progress);
-        enrollment.setLastAccessDate(LocalDateTime.now());
+        Enrollment updated = enrollmentRepository.advanceProgress(studentEmail, courseId, progress);
+        if (updated == null) {
+            Enrollment current = enrollmentRepository.findByStudentEmailAndCourseId(studentEmail, courseId)
+                    .orElseThrow(() -> {
+                        log.error("Enrollment not found for student '{}' in course '{}'", studentEmail, courseId);
+                        return new EnrollmentNotFoundException(studentEmail, courseId);
+                    });
+            log.debug("Progress {}% not applied for student '{}' in course '{}' (current: {}%, status: {})",
+                    progress, studentEmail, courseId, current.getProgressPercentage(), current.getStatus());
+            return new ProgressUpdateResult(current, false);
+        }
 
-        if (progress >= 100) {
-            enrollment.setStatus(EnrollmentStatus.COMPLETED);
-            enrollment.setCompletionDate(LocalDateTime.now());
+        ProgressUpdateResult result = new ProgressUpdateResult(updated, true);
+        if (result.isCompletedNow()) {
             log.info("Student '{}' completed course '{}'", studentEmail, courseId);
             // TODO: Phase 2 - Publish CourseCompletedEvent for certificate generation
         }
-
-        Enrollment updated = enrollmentRepository.save(enrollment);
         log.info("Successfully updated progress for student '{}' in course '{}'", studentEmail, courseId);
 
-        return updated;
+        return result;
     }
 
-    @CacheEvict(value = "enrollments", allEntries = true)
-    public void dropEnrollment(String studentEmail, String courseId) {
-        log.info("Attempting to drop enrollment for student '{}' in course '{}'", studentEmail, courseId);
+    /**
+     * Raise progress of an enrollment, keyed by id (Progress Service)
+     * Lower or equal values are skipped without a write; caches are only evicted on a change
+     *
+     * @throws EnrollmentNotFoundException if there is no such enrollment
+     */
+    @Caching(evict = {
+            @CacheEvict(value = ENROLLMENT, key = "#enrollmentId", condition = "#result.changed"),
+            @CacheEvict(value = STUDENT_ENROLLMENTS, key = "#result.enrollment.studentEmail", condition = "#result.changed"),
+            @CacheEvict(value = COURSE_ENROLLMENT_COUNTS, key = "#result.enrollment.courseId", condition = "#result.completedNow")
+    })
+    public ProgressUpdateResult advanceProgress(String enrollmentId, int progress) {
+        Enrollment updated = enrollmentRepository.advanceProgressById(enrollmentId, progress);
+        if (updated != null) {
+            log.info("Enrollment '{}' progress advanced to {}%", enrollmentId, progress);
+            ProgressUpdateResult result = new ProgressUpdateResult(updated, true);
+            if (result.isCompletedNow()) {
+                log.info("Student '{}' completed course '{}'", updated.getStudentEmail(), updated.getCourseId());
+            }
+            return result;
+        }
 
-        Enrollment enrollment = enrollmentRepository.findByStudentEmailAndCourseId(studentEmail, courseId)
-                .orElseThrow(() -> {
-                    log.error("Enrollment not found for student '{}' in course '{}'", studentEmail, courseId);
-                    return new EnrollmentNotFoundException(studentEmail, courseId);
-                });
+        Enrollment current = enrollmentRepository.findById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+        log.debug("Enrollment '{}' progress {}% not applied (current: {}%, status: {})",
+                enrollmentId, progress, current.getProgressPercentage(), current.getStatus());
+        return new ProgressUpdateResult(current, false);
+    }
 
-        enrollment.setStatus(EnrollmentStatus.DROPPED);
-        enrollmentRepository.save(enrollment);
+    /**
+     * Raise progress of many enrollments with one read and one bulkWrite
+     *
+     * The read finds which updates would change something, so only those are
+     * written and only their cache entries are evicted. The write re-checks
+     * the guard, so a concurrent higher value is never overwritten.
+     *
+     * @param progressById enrollment id -> progress
+     * @return number of enrollments changed
+     */
+    public long advanceProgressBatch(Map<String, Integer> progressById) {
+        Map<String, Integer> advancing = new HashMap<>();
+        List<Enrollment> affected = new ArrayList<>();
 
-        // TODO: Phase 2 - Replace with RabbitMQ event publishing (StudentDroppedEvent)
-        // This synchronous REST call should be replaced with async event-driven
-        // architecture
-        try {
-            courseServiceClient.decrementEnrollmentCount(courseId);
-            log.info("Decremented enrollment count for course '{}'", courseId);
-        } catch (Exception e) {
-            log.error("Failed to decrement enrollment count for course '{}': {}", courseId, e.getMessage());
+        for (Enrollment enrollment : enrollmentRepository.findAllById(progressById.keySet())) {
+            int progress = progressById.get(enrollment.getId());
+            Integer current = enrollment.getProgressPercentage();
+            if (enrollment.getStatus() != EnrollmentStatus.DROPPED && (current == null || current < progress)) {
+                advancing.put(enrollment.getId(), progress);
+                affected.add(enrollment);
+            }
+        }
+
+        long updated = enrollmentRepository.advanceProgressByIds(advancing);
+
+        for (Enrollment enrollment : affected) {
+            evict(ENROLLMENT, enrollment.getId());
+            evict(STUDENT_ENROLLMENTS, enrollment.getStudentEmail());
+            if (advancing.get(enrollment.getId()) >= 100) {
+                evict(COURSE_ENROLLMENT_COUNTS, enrollment.getCourseId());
+            }
+        }
+
+        log.info("Batch progress update: {} requested, {} advancing, {} updated",
+                progressById.size(), advancing.size(), updated);
+        return updated;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(value = STUDENT_ENROLLMENTS, key = "#studentEmail"),
+            @CacheEvict(value = COURSE_ENROLLMENT_COUNTS, key = "#courseId"),
+            @CacheEvict(value = ENROLLMENT, key = "#result.id")
+    })
+    @Transactional
+    public Enrollment dropEnrollment(String studentEmail, String courseId) {
+        log.info("Attempting to drop enrollment for student '{}' in course '{}'", studentEmail, courseId);
+
+        // Conditional on not being DROPPED yet: only the drop that changes the
+        // status decrements the course count
+        Enrollment dropped = enrollmentRepository.drop(studentEmail, courseId);
+        if (dropped != null) {
+            outboxEventRepository.save(OutboxEvent.enrollmentCountChange(OutboxEventType.DROPPED, dropped, -1));
+        } else {
+            dropped = enrollmentRepository.findByStudentEmailAndCourseId(studentEmail, courseId)
+                    .orElseThrow(() -> {
+                        log.error("Enrollment not found for student '{}' in course '{}'", studentEmail, courseId);
+                        return new EnrollmentNotFoundException(studentEmail, courseId);
+                    });
         }
 
         log.info("Successfully dropped enrollment for student '{}' in course '{}'", studentEmail, courseId);
+        return dropped;
     }
 
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
 }
@@ -0,0 +1,230 @@
+package com.elearning.enrollment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.elearning.enrollment.client.EnrollmentEventTransport;
+import com.elearning.enrollment.model.OutboxEvent;
+import com.elearning.enrollment.model.OutboxStatus;
+import com.elearning.enrollment.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox Dispatcher
+ *
+ * Periodically claims due outbox events, nets their enrollment count
+ * changes per course and delivers them through the configured
+ * EnrollmentEventTransport in one call per batch.
+ *
+ * Claiming pushes nextAttemptAt forward by the lease and stamps a claim
+ * token, so several service instances can dispatch concurrently and an
+ * instance that dies mid-batch only delays its events by one lease.
+ * Delivered events are deleted; failed ones are retried with exponential
+ * backoff and parked as DEAD after max-attempts.
+ *
+ * Delivery is at-least-once: a crash between delivery and delete
+ * re-sends the batch (EnrollmentCountReconciler corrects such drift).
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final MongoTemplate mongoTemplate;
+    private final OutboxEventRepository outboxRepository;
+    private final EnrollmentEventTransport transport;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong deadEvents = new AtomicLong();
+
+    private final Counter deliveredEvents;
+    private final Counter failedEvents;
+    private final Counter deadLetteredEvents;
+    private final Timer deliveryTimer;
+
+    public OutboxDispatcher(
+            MongoTemplate mongoTemplate,
+            OutboxEventRepository outboxRepository,
+            EnrollmentEventTransport transport,
+            MeterRegistry meterRegistry,
+            @Value("${enrollment.outbox.batch-size:500}") int batchSize,
+            @Value("${enrollment.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${enrollment.outbox.lease:30s}") Duration lease,
+            @Value("${enrollment.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${enrollment.outbox.max-backoff:5m}") Duration maxBackoff) {
+        this.mongoTemplate = mongoTemplate;
+        this.outboxRepository = outboxRepository;
+        this.transport = transport;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        meterRegistry.gauge("enrollment.outbox.pending", pendingEvents);
+        meterRegistry.gauge("enrollment.outbox.lag.seconds", lagSeconds);
+        meterRegistry.gauge("enrollment.outbox.dead", deadEvents);
+        this.deliveredEvents = meterRegistry.counter("enrollment.outbox.delivered");
+        this.failedEvents = meterRegistry.counter("enrollment.outbox.failures");
+        this.deadLetteredEvents = meterRegistry.counter("enrollment.outbox.dead.lettered");
+        this.deliveryTimer = meterRegistry.timer("enrollment.outbox.delivery");
+
+        log.info("Outbox dispatcher enabled: transport={}, batchSize={}, maxAttempts={}, lease={}",
+                transport.getClass().getSimpleName(), batchSize, maxAttempts, lease);
+    }
+
+    /**
+     * Dispatch due events, batch after batch, then refresh the lag gauges
+     */
+    @Scheduled(fixedDelayString = "${enrollment.outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize);
+        } catch (RuntimeException e) {
+            // Outbox unreachable - claimed events are released when their lease ends
+            log.error("Outbox dispatch failed: {}", e.getMessage());
+        } finally {
+            refreshGauges();
+        }
+    }
+
+    /**
+     * Claim, deliver and settle one batch
+     *
+     * @return number of events claimed
+     */
+    int dispatchBatch() {
+        List<OutboxEvent> events = claim();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        events.forEach(event -> deltas.merge(event.getCourseId(), (long) event.getDelta(), Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+
+        try {
+            if (!deltas.isEmpty()) {
+                deliveryTimer.record(() -> transport.deliverEnrollmentCountDeltas(deltas));
+            }
+            outboxRepository.deleteAllById(events.stream().map(OutboxEvent::getId).toList());
+            deliveredEvents.increment(events.size());
+            log.debug("Delivered {} outbox events as {} course deltas", events.size(), deltas.size());
+        } catch (RuntimeException e) {
+            failedEvents.increment(events.size());
+            log.warn("Delivery of {} outbox events failed, will retry: {}", events.size(), e.getMessage());
+            scheduleRetry(events, e);
+        }
+        return events.size();
+    }
+
+    /**
+     * Lease up to batchSize due events to this dispatcher
+     */
+    private List<OutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria due = Criteria.where("status").is(OutboxStatus.PENDING).and("nextAttemptAt").lte(now);
+
+        Query candidates = Query.query(due)
+                .with(Sort.by("nextAttemptAt"))
+                .limit(batchSize);
+        candidates.fields().include("_id");
+        List<String> ids = mongoTemplate.find(candidates, OutboxEvent.class).stream()
+                .map(OutboxEvent::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Re-check "due" so events claimed by another instance meanwhile are skipped
+        String token = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids).andOperator(due)),
+                new Update().set("claimToken", token).set("nextAttemptAt", now.plus(lease)),
+                OutboxEvent.class);
+
+        return mongoTemplate.find(Query.query(Criteria.where("claimToken").is(token)), OutboxEvent.class);
+    }
+
+    /**
+     * Back off each failed event, or park it once it ran out of attempts
+     */
+    private void scheduleRetry(List<OutboxEvent> events, RuntimeException cause) {
+        LocalDateTime now = LocalDateTime.now();
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxEvent.class);
+
+        for (OutboxEvent event : events) {
+            int attempts = event.getAttempts() + 1;
+            Update update = new Update()
+                    .set("attempts", attempts)
+                    .set("lastError", error)
+                    .unset("claimToken");
+
+            if (attempts >= maxAttempts) {
+                update.set("status", OutboxStatus.DEAD);
+                deadLetteredEvents.increment();
+                log.error("Outbox event {} ({} {} for course {}) dead after {} attempts",
+                        event.getId(), event.getType(), event.getDelta(), event.getCourseId(), attempts);
+            } else {
+                update.set("nextAttemptAt", now.plus(backoff(attempts)));
+            }
+            bulk.updateOne(Query.query(Criteria.where("_id").is(event.getId())), update);
+        }
+
+        try {
+            bulk.execute();
+        } catch (RuntimeException e) {
+            // Events become due again when the lease ends
+            log.error("Could not reschedule {} outbox events: {}", events.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * initialBackoff * 2^(attempts-1), capped at maxBackoff
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void refreshGauges() {
+        try {
+            pendingEvents.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+            deadEvents.set(outboxRepository.countByStatus(OutboxStatus.DEAD));
+            lagSeconds.set(outboxRepository.findFirstByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING)
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh outbox gauges: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.elearning.enrollment.service;
+
+import com.elearning.enrollment.model.Enrollment;
+import com.elearning.enrollment.model.EnrollmentStatus;
+
+import lombok.Value;
+
+/**
+ * Outcome of a monotonic progress write
+ */
+@Value
+public class ProgressUpdateResult {
+
+    /** Enrollment as stored after the call */
+    Enrollment enrollment;
+
+    /** False if the write was skipped (progress not higher, or dropped) */
+    boolean changed;
+
+    /** True if this write completed the course */
+    public boolean isCompletedNow() {
+        return changed && enrollment.getStatus() == EnrollmentStatus.COMPLETED;
+    }
+}
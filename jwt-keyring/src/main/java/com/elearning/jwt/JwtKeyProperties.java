@@ -0,0 +1,31 @@
+package com.elearning.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT signing keys (jwt.*)
+ *
+ * - secret: legacy key, used for tokens without a kid header (optional once
+ *   no such token can still be valid; blank = not set)
+ * - keys: keyring entries, selected by the token's kid header
+ * - active-key-id: key used to sign new tokens; defaults to secret, or to the
+ *   only entry of keys when secret is not set
+ */
+@ConfigurationProperties(prefix = "jwt")
+@Data
+public class JwtKeyProperties {
+
+    private String secret;
+    private String activeKeyId;
+    private List<Key> keys = new ArrayList<>();
+
+    @Data
+    public static class Key {
+        private String id;
+        private String secret;
+    }
+}
@@ -0,0 +1,140 @@
+package com.elearning.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT Keyring
+ *
+ * Decodes every configured secret once at startup and builds a single
+ * thread-safe parser that picks the verification key from the token's kid
+ * header. Tokens without a kid (issued before key ids were introduced) are
+ * verified with the legacy jwt.secret, so old and new keys are both accepted
+ * during a rotation window. The legacy secret is optional: without it,
+ * tokens without a kid are rejected.
+ *
+ * Shared by the gateway (verifies) and user-service (signs and verifies);
+ * provided by JwtKeyringAutoConfiguration.
+ */
+@Slf4j
+public class JwtKeyring {
+
+    private final Map<String, SecretKey> keysById = new HashMap<>();
+    private final SecretKey legacyKey;
+    private final String activeKeyId;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtKeyring(JwtKeyProperties properties) {
+        for (JwtKeyProperties.Key key : properties.getKeys()) {
+            if (key.getId() == null || key.getId().isBlank()) {
+                throw new IllegalStateException("jwt.keys entries need an id");
+            }
+            if (keysById.putIfAbsent(key.getId(), decode(key.getSecret())) != null) {
+                throw new IllegalStateException("Duplicate JWT key id: " + key.getId());
+            }
+        }
+
+        legacyKey = hasText(properties.getSecret()) ? decode(properties.getSecret()) : null;
+
+        String active = hasText(properties.getActiveKeyId()) ? properties.getActiveKeyId() : null;
+        if (active == null && legacyKey == null && keysById.size() == 1) {
+            // Legacy secret retired and only one key - nothing to choose
+            active = keysById.keySet().iterator().next();
+        }
+        activeKeyId = active;
+
+        if (activeKeyId != null) {
+            signingKey = keysById.get(activeKeyId);
+            if (signingKey == null) {
+                throw new IllegalStateException("jwt.active-key-id '" + activeKeyId + "' is not in jwt.keys");
+            }
+        } else {
+            // null when verifying only with several keys (gateway); signingKey() reports it
+            signingKey = legacyKey;
+        }
+
+        if (keysById.isEmpty() && legacyKey == null) {
+            throw new IllegalStateException("Configure jwt.secret or jwt.keys");
+        }
+
+        parser = Jwts.parser()
+                .keyLocator(new KidLocator())
+                .build();
+
+        log.info("JWT keyring loaded: keys={}, activeKeyId={}, legacyKey={}",
+                keysById.keySet(), activeKeyId, legacyKey != null);
+    }
+
+    /**
+     * Shared parser - verifies with the key named by the token's kid header
+     */
+    public JwtParser parser() {
+        return parser;
+    }
+
+    /**
+     * Key used to sign new tokens
+     */
+    public SecretKey signingKey() {
+        if (signingKey == null) {
+            throw new IllegalStateException(
+                    "No signing key - jwt.keys has several keys and no jwt.secret, set jwt.active-key-id");
+        }
+        return signingKey;
+    }
+
+    /**
+     * kid header for new tokens (null when signing with the legacy secret)
+     */
+    public String activeKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Resolve the verification key from the token header
+     */
+    private class KidLocator implements Locator<Key> {
+
+        @Override
+        public Key locate(Header header) {
+            String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+
+            if (kid == null) {
+                if (legacyKey == null) {
+                    throw new JwtException("Token has no key id and no legacy jwt.secret is configured");
+                }
+                return legacyKey;
+            }
+
+            SecretKey key = keysById.get(kid);
+            if (key == null) {
+                throw new JwtException("Unknown JWT key id: " + kid);
+            }
+            return key;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static SecretKey decode(String secret) {
+        if (!hasText(secret)) {
+            throw new IllegalStateException("JWT secret must not be empty");
+        }
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
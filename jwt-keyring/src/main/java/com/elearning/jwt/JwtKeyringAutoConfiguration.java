@@ -0,0 +1,24 @@
+package com.elearning.jwt;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * JWT Keyring Auto-Configuration
+ *
+ * Binds jwt.* and provides the JwtKeyring to every service that depends on
+ * this module, so the gateway (verifies) and user-service (signs and
+ * verifies) read the same keyring configuration the same way.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(JwtKeyProperties.class)
+public class JwtKeyringAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtKeyring jwtKeyring(JwtKeyProperties properties) {
+        return new JwtKeyring(properties);
+    }
+}
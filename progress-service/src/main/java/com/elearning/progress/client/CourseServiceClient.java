@@ -6,9 +6,17 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -19,30 +27,64 @@ public class CourseServiceClient {
     @Value("${course.service.url}")
     private String courseServiceUrl;
 
-    public int getTotalLessonCount(String courseId) {
-        String url = courseServiceUrl + "/api/courses/" + courseId + "/lesson-count";
+    /**
+     * Modules and lessons of a whole course
+     *
+     * @param courseId course
+     * @param cached previously fetched structure to revalidate (If-None-Match), or null
+     * @return fresh structure, cached if it is unchanged (304), or null if it could not be fetched
+     */
+    public CourseStructure getCourseStructure(String courseId, CourseStructure cached) {
+        String url = courseServiceUrl + "/api/courses/{courseId}/structure";
+
+        HttpHeaders headers = new HttpHeaders();
+        if (cached != null) {
+            headers.setIfNoneMatch("\"" + cached.getVersion() + "\"");
+        }
 
         try {
-            Integer count = restTemplate.getForObject(url, Integer.class);
-            return count != null ? count : 0;
+            ResponseEntity<CourseStructure> response = restTemplate.exchange(
+                    url, HttpMethod.GET, new HttpEntity<>(headers), CourseStructure.class, courseId);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                return cached;
+            }
+            return response.getBody();
         } catch (Exception e) {
-            log.error("Failed to get lesson count for course '{}': {}", courseId, e.getMessage());
-            return 0;
+            log.error("Failed to get structure of course '{}': {}", courseId, e.getMessage());
+            return null;
         }
     }
 
-    public LessonDetails getLessonDetails(String courseId, int moduleIndex, int lessonIndex) {
-        String url = String.format("%s/api/courses/%s/modules/%d/lessons/%d",
-                courseServiceUrl, courseId, moduleIndex, lessonIndex);
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CourseStructure {
+        private String courseId;
+        private long version;
+        private int totalLessons;
+        private List<ModuleStructure> modules = new ArrayList<>();
 
-        try {
-            return restTemplate.getForObject(url, LessonDetails.class);
-        } catch (Exception e) {
-            log.error("Failed to get lesson details: {}", e.getMessage());
-            return null;
+        /**
+         * Lesson at the given position, or null if the course has no such lesson
+         */
+        public LessonDetails lesson(int moduleIndex, int lessonIndex) {
+            if (modules == null || moduleIndex < 0 || moduleIndex >= modules.size()) {
+                return null;
+            }
+            List<LessonDetails> lessons = modules.get(moduleIndex).getLessons();
+            return lessons == null || lessonIndex < 0 || lessonIndex >= lessons.size() ? null : lessons.get(lessonIndex);
         }
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ModuleStructure {
+        private int index;
+        private String title;
+        private List<LessonDetails> lessons = new ArrayList<>();
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -6,10 +6,14 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -22,25 +26,32 @@ public class EnrollmentServiceClient {
     @Value("${enrollment.service.url}")
     private String enrollmentServiceUrl;
 
-    public void updateEnrollmentProgress(String enrollmentId, double progressPercentage) {
-        String url = enrollmentServiceUrl + "/api/enrollments/" + enrollmentId + "/progress";
+    /**
+     * Push progress of many enrollments in one call
+     * Enrollment Service ignores values that are not higher than the stored ones
+     *
+     * @return number of enrollments Enrollment Service actually changed
+     * @throws RuntimeException if the call failed, so the caller can keep the values for a retry
+     */
+    public long updateEnrollmentProgressBatch(Map<String, Double> progressByEnrollment) {
+        String url = enrollmentServiceUrl + "/api/enrollments/progress/batch";
 
-        Map<String, Object> request = new HashMap<>();
-        request.put("progress", progressPercentage);
+        List<Map<String, Object>> updates = new ArrayList<>(progressByEnrollment.size());
+        progressByEnrollment.forEach((enrollmentId, progress) ->
+                updates.add(Map.of("enrollmentId", enrollmentId, "progress", progress)));
 
-        try {
-            restTemplate.put(url, request);
-            log.info("Updated enrollment '{}' progress to {}%", enrollmentId, progressPercentage);
-        } catch (Exception e) {
-            log.error("Failed to update enrollment progress: {}", e.getMessage());
-        }
+        ResponseEntity<BatchResult> response = restTemplate.exchange(url, HttpMethod.PUT,
+                new HttpEntity<>(Map.of("updates", updates)), BatchResult.class);
+        long updated = response.getBody() != null ? response.getBody().getUpdated() : 0;
+        log.debug("Pushed progress of {} enrollments, {} changed", progressByEnrollment.size(), updated);
+        return updated;
     }
 
     public EnrollmentDetails getEnrollmentDetails(String enrollmentId) {
-        String url = enrollmentServiceUrl + "/api/enrollments/" + enrollmentId;
+        String url = enrollmentServiceUrl + "/api/enrollments/{enrollmentId}";
 
         try {
-            EnrollmentDetails details = restTemplate.getForObject(url, EnrollmentDetails.class);
+            EnrollmentDetails details = restTemplate.getForObject(url, EnrollmentDetails.class, enrollmentId);
             log.info("Retrieved enrollment details for: {}", enrollmentId);
             return details;
         } catch (Exception e) {
@@ -49,6 +60,14 @@ public class EnrollmentServiceClient {
         }
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchResult {
+        private int requested;
+        private long updated;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
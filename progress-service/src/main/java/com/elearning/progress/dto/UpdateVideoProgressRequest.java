@@ -32,4 +32,10 @@ public class UpdateVideoProgressRequest {
     @Min(value = 0, message = "Watched seconds must be >= 0")
     private Integer watchedSeconds;
 
+    /**
+     * Optional - course of the enrollment, if the client knows it
+     * Lets the first heartbeat of a lesson look up enrollment and course concurrently
+     */
+    private String courseId;
+
 }
@@ -0,0 +1,60 @@
+package com.elearning.progress.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-enrollment progress rollup
+ *
+ * Lesson status counts of one enrollment, maintained with $inc whenever a
+ * lesson changes status, so the overall percentage is a single-document
+ * read. Built from lesson_progress the first time it is needed.
+ */
+@Document(collection = "enrollment_progress")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentProgress {
+
+    /**
+     * Enrollment ID (one rollup per enrollment)
+     */
+    @Id
+    private String enrollmentId;
+
+    private String courseId;
+    private String studentEmail;
+
+    private int completedLessons;
+    private int inProgressLessons;
+
+    /**
+     * Lesson count of the course, refreshed on every completion
+     */
+    private int totalLessons;
+
+    /**
+     * Most recently accessed lesson
+     */
+    private Integer lastModuleIndex;
+    private Integer lastLessonIndex;
+    private LocalDateTime lastAccessedAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * Completed lessons / total lessons, in percent
+     * Capped at 100 - completedLessons can exceed totalLessons after lessons are removed
+     */
+    public double completionPercentage() {
+        return totalLessons > 0 ? Math.min(100.0, completedLessons * 100.0 / totalLessons) : 0.0;
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -13,9 +14,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "lesson_progress")
-@CompoundIndex(def = "{'enrollmentId': 1, 'moduleIndex': 1, 'lessonIndex': 1}", unique = true)
+@CompoundIndexes({
+        @CompoundIndex(def = "{'enrollmentId': 1, 'moduleIndex': 1, 'lessonIndex': 1}", unique = true),
+        @CompoundIndex(name = "course_student_lesson", def = "{'courseId': 1, 'studentEmail': 1, 'moduleIndex': 1, 'lessonIndex': 1}")
+})
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class LessonProgress implements Serializable {
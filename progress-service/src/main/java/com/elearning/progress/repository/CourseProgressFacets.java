@@ -0,0 +1,41 @@
+package com.elearning.progress.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.elearning.progress.model.CompletionStatus;
+import com.elearning.progress.model.LessonProgress;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of the course progress $facet aggregation
+ *
+ * lessons - the student's progress records of one course, in lesson order
+ * statusCounts - number of those records per status
+ */
+@Data
+@NoArgsConstructor
+public class CourseProgressFacets {
+
+    private List<LessonProgress> lessons = new ArrayList<>();
+    private List<StatusCount> statusCounts = new ArrayList<>();
+
+    /**
+     * Count for one status (0 if absent)
+     */
+    public long count(CompletionStatus status) {
+        return statusCounts.stream()
+                .filter(c -> c.getId() == status)
+                .mapToLong(StatusCount::getCount)
+                .sum();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class StatusCount {
+        private CompletionStatus id;
+        private long count;
+    }
+}
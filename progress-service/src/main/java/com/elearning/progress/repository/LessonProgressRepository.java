@@ -10,7 +10,8 @@ import com.elearning.progress.model.CompletionStatus;
 import com.elearning.progress.model.LessonProgress;
 
 @Repository
-public interface LessonProgressRepository extends MongoRepository<LessonProgress, String> {
+public interface LessonProgressRepository extends MongoRepository<LessonProgress, String>, LessonProgressStatsRepository,
+        LessonProgressTransitionRepository {
 
     List<LessonProgress> findByEnrollmentIdOrderByModuleIndexAscLessonIndexAsc(String enrollmentId);
 
@@ -0,0 +1,16 @@
+package com.elearning.progress.repository;
+
+/**
+ * Aggregation queries on lesson_progress - custom fragment of LessonProgressRepository
+ */
+public interface LessonProgressStatsRepository {
+
+    /**
+     * Lesson list and status counts of a student's course in one round trip
+     *
+     * @param courseId course
+     * @param studentEmail student
+     * @return facets, empty lists if the student has no progress in the course
+     */
+    CourseProgressFacets findCourseProgress(String courseId, String studentEmail);
+}
@@ -0,0 +1,42 @@
+package com.elearning.progress.repository;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.elearning.progress.model.LessonProgress;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lesson progress aggregations implementation
+ */
+@RequiredArgsConstructor
+public class LessonProgressStatsRepositoryImpl implements LessonProgressStatsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * $match on (courseId, studentEmail) - served by the course/student index -
+     * then a $facet producing the sorted lesson list and the per-status counts
+     */
+    @Override
+    public CourseProgressFacets findCourseProgress(String courseId, String studentEmail) {
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("courseId").is(courseId).and("studentEmail").is(studentEmail)),
+                facet(sort(Sort.by("moduleIndex", "lessonIndex"))).as("lessons")
+                        .and(group("status").count().as("count")).as("statusCounts"));
+
+        CourseProgressFacets facets = mongoTemplate
+                .aggregate(aggregation, LessonProgress.class, CourseProgressFacets.class)
+                .getUniqueMappedResult();
+        return facets != null ? facets : new CourseProgressFacets();
+    }
+}
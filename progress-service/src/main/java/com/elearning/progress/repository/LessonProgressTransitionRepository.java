@@ -0,0 +1,25 @@
+package com.elearning.progress.repository;
+
+import com.elearning.progress.model.CompletionStatus;
+import com.elearning.progress.model.LessonProgress;
+
+/**
+ * Conditional status writes on lesson_progress - custom fragment of LessonProgressRepository
+ *
+ * A write only applies if the stored status is still the one the caller
+ * read, so of two overlapping heartbeats crossing the same threshold
+ * exactly one performs - and counts - the transition.
+ */
+public interface LessonProgressTransitionRepository {
+
+    /**
+     * Write a heartbeat's status, position and timestamps, if the record is
+     * still in the given status; a record without id is inserted
+     *
+     * @param progress record carrying the new values
+     * @param expected status the caller read before changing it
+     * @return the record after the write, or null if it was not applied
+     *         (status changed concurrently, or the record was created concurrently)
+     */
+    LessonProgress saveIfStatus(LessonProgress progress, CompletionStatus expected);
+}
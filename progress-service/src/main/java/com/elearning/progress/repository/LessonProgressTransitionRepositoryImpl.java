@@ -0,0 +1,50 @@
+package com.elearning.progress.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.elearning.progress.model.CompletionStatus;
+import com.elearning.progress.model.LessonProgress;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Conditional status writes implementation
+ */
+@RequiredArgsConstructor
+public class LessonProgressTransitionRepositoryImpl implements LessonProgressTransitionRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * New records rely on the unique (enrollmentId, moduleIndex, lessonIndex)
+     * index; existing ones match on _id and status and only get the fields a
+     * heartbeat changes
+     */
+    @Override
+    public LessonProgress saveIfStatus(LessonProgress progress, CompletionStatus expected) {
+        if (progress.getId() == null) {
+            try {
+                return mongoTemplate.insert(progress);
+            } catch (DuplicateKeyException e) {
+                return null;
+            }
+        }
+
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(progress.getId()).and("status").is(expected)),
+                new Update()
+                        .set("status", progress.getStatus())
+                        .set("videoWatchedSeconds", progress.getVideoWatchedSeconds())
+                        .set("startedAt", progress.getStartedAt())
+                        .set("completedAt", progress.getCompletedAt())
+                        .set("lastAccessedAt", progress.getLastAccessedAt())
+                        .set("updatedAt", progress.getUpdatedAt()),
+                FindAndModifyOptions.options().returnNew(true),
+                LessonProgress.class);
+    }
+}
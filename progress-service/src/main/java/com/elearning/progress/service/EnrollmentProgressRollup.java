@@ -0,0 +1,156 @@
+package com.elearning.progress.service;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.elearning.progress.model.CompletionStatus;
+import com.elearning.progress.model.EnrollmentProgress;
+import com.elearning.progress.model.LessonProgress;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the enrollment_progress rollups
+ *
+ * Status changes are applied as atomic $inc updates on the rollup, so no
+ * caller ever needs to load all lesson progress records of an enrollment.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollmentProgressRollup {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Create the rollup from existing lesson progress if it does not exist yet
+     *
+     * Must be called before the status change is saved, otherwise the change
+     * would be counted by the backfill and again by applyStatusChange.
+     */
+    public void ensureExists(LessonProgress progress) {
+        String enrollmentId = progress.getEnrollmentId();
+        if (mongoTemplate.exists(byId(enrollmentId), EnrollmentProgress.class)) {
+            return;
+        }
+
+        Map<CompletionStatus, Integer> counts = new HashMap<>();
+        mongoTemplate.aggregate(
+                newAggregation(
+                        match(Criteria.where("enrollmentId").is(enrollmentId)),
+                        group("status").count().as("count")),
+                LessonProgress.class, Document.class)
+                .forEach(doc -> {
+                    if (doc.getString("_id") != null) {
+                        counts.put(CompletionStatus.valueOf(doc.getString("_id")), doc.getInteger("count"));
+                    }
+                });
+
+        Query lastQuery = Query.query(Criteria.where("enrollmentId").is(enrollmentId))
+                .with(Sort.by(Sort.Direction.DESC, "lastAccessedAt"));
+        LessonProgress last = mongoTemplate.findOne(lastQuery, LessonProgress.class);
+
+        EnrollmentProgress rollup = EnrollmentProgress.builder()
+                .enrollmentId(enrollmentId)
+                .courseId(progress.getCourseId())
+                .studentEmail(progress.getStudentEmail())
+                .completedLessons(counts.getOrDefault(CompletionStatus.COMPLETED, 0))
+                .inProgressLessons(counts.getOrDefault(CompletionStatus.IN_PROGRESS, 0))
+                .lastModuleIndex(last != null ? last.getModuleIndex() : null)
+                .lastLessonIndex(last != null ? last.getLessonIndex() : null)
+                .lastAccessedAt(last != null ? last.getLastAccessedAt() : null)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        try {
+            mongoTemplate.insert(rollup);
+            log.info("Built progress rollup for enrollment {} ({} completed, {} in progress)",
+                    enrollmentId, rollup.getCompletedLessons(), rollup.getInProgressLessons());
+        } catch (DuplicateKeyException e) {
+            log.debug("Progress rollup for enrollment {} created concurrently", enrollmentId);
+        }
+    }
+
+    /**
+     * Apply one lesson status change
+     *
+     * @param progress saved lesson progress, carrying the new status
+     * @param previous status before the change (NOT_STARTED for a new record)
+     * @param totalLessons current lesson count of the course, or null to keep the stored one
+     * @return updated rollup
+     */
+    public EnrollmentProgress applyStatusChange(LessonProgress progress, CompletionStatus previous,
+                                                Integer totalLessons) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set("lastModuleIndex", progress.getModuleIndex())
+                .set("lastLessonIndex", progress.getLessonIndex())
+                .set("lastAccessedAt", progress.getLastAccessedAt())
+                .set("updatedAt", now)
+                .setOnInsert("courseId", progress.getCourseId())
+                .setOnInsert("studentEmail", progress.getStudentEmail());
+
+        increment(update, previous, -1);
+        increment(update, progress.getStatus(), 1);
+        if (totalLessons != null) {
+            update.set("totalLessons", totalLessons);
+        }
+
+        return mongoTemplate.findAndModify(byId(progress.getEnrollmentId()), update,
+                FindAndModifyOptions.options().returnNew(true).upsert(true), EnrollmentProgress.class);
+    }
+
+    /**
+     * Move the last-accessed lesson forward for buffered heartbeats
+     * Only the newest position per enrollment is written, and never over a newer one
+     */
+    public void recordAccess(Collection<LessonProgress> positions) {
+        Map<String, LessonProgress> latest = new HashMap<>();
+        for (LessonProgress position : positions) {
+            latest.merge(position.getEnrollmentId(), position,
+                    (a, b) -> a.getLastAccessedAt().isAfter(b.getLastAccessedAt()) ? a : b);
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EnrollmentProgress.class);
+        latest.forEach((enrollmentId, position) -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(enrollmentId)
+                        .and("lastAccessedAt").not().gte(position.getLastAccessedAt())),
+                new Update()
+                        .set("lastModuleIndex", position.getModuleIndex())
+                        .set("lastLessonIndex", position.getLessonIndex())
+                        .set("lastAccessedAt", position.getLastAccessedAt())));
+        bulk.execute();
+    }
+
+    private static void increment(Update update, CompletionStatus status, int delta) {
+        if (status == CompletionStatus.COMPLETED) {
+            update.inc("completedLessons", delta);
+        } else if (status == CompletionStatus.IN_PROGRESS) {
+            update.inc("inProgressLessons", delta);
+        }
+    }
+
+    private static Query byId(String enrollmentId) {
+        return Query.query(Criteria.where("_id").is(enrollmentId));
+    }
+}
@@ -0,0 +1,126 @@
+package com.elearning.progress.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.elearning.progress.client.EnrollmentServiceClient;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous enrollment progress sync
+ *
+ * Pushes course completion percentages to Enrollment Service off the
+ * request thread. Updates are coalesced per enrollment - only the latest
+ * value is kept - and flushed every flush interval through the batch
+ * endpoint, so a burst of lesson completions costs one remote call.
+ * Enrollment Service drops values that are not higher than the stored
+ * ones, so a late or repeated flush cannot move progress backwards.
+ *
+ * Server and I/O failures are retried on the next flush. A batch rejected
+ * with 400 is split to isolate the bad entries, which are dropped; other
+ * 4xx responses drop the batch - retrying them cannot succeed.
+ */
+@Component
+@Slf4j
+public class EnrollmentProgressSync {
+
+    private final EnrollmentServiceClient enrollmentClient;
+    private final int batchSize;
+
+    /** Latest unsent percentage per enrollment */
+    private final Map<String, Double> pending = new ConcurrentHashMap<>();
+
+    public EnrollmentProgressSync(
+            EnrollmentServiceClient enrollmentClient,
+            @Value("${progress.enrollment-sync.batch-size:1000}") int batchSize) {
+        this.enrollmentClient = enrollmentClient;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Queue a progress update, replacing any unsent one for the same enrollment
+     * Values are clamped to [0, 100], the range Enrollment Service accepts
+     */
+    public void submit(String enrollmentId, double progressPercentage) {
+        pending.put(enrollmentId, Math.max(0.0, Math.min(100.0, progressPercentage)));
+    }
+
+    /**
+     * Send pending updates in batches
+     * A batch that failed with a server or I/O error is put back (unless a newer
+     * value arrived) and retried on the next run
+     */
+    @Scheduled(fixedDelayString = "${progress.enrollment-sync.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        while (!pending.isEmpty()) {
+            Map<String, Double> batch = new HashMap<>();
+            for (String enrollmentId : pending.keySet()) {
+                Double percentage = pending.remove(enrollmentId);
+                if (percentage != null) {
+                    batch.put(enrollmentId, percentage);
+                }
+                if (batch.size() >= batchSize) {
+                    break;
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                send(batch);
+            } catch (Exception e) {
+                batch.forEach(pending::putIfAbsent);
+                log.warn("Enrollment progress sync failed for {} enrollments, will retry: {}",
+                        batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Send one batch; 4xx rejections are not thrown, so the caller never retries them
+     */
+    private void send(Map<String, Double> batch) {
+        try {
+            enrollmentClient.updateEnrollmentProgressBatch(batch);
+        } catch (HttpClientErrorException.BadRequest e) {
+            if (batch.size() == 1) {
+                log.error("Dropping rejected enrollment progress update {}: {}", batch, e.getMessage());
+                return;
+            }
+            // One bad entry fails the whole batch - split to send the valid ones
+            List<Map.Entry<String, Double>> entries = new ArrayList<>(batch.entrySet());
+            int half = entries.size() / 2;
+            send(toMap(entries.subList(0, half)));
+            send(toMap(entries.subList(half, entries.size())));
+        } catch (HttpClientErrorException e) {
+            log.error("Dropping {} enrollment progress updates, rejected with {}",
+                    batch.size(), e.getStatusCode());
+        }
+    }
+
+    private static Map<String, Double> toMap(List<Map.Entry<String, Double>> entries) {
+        Map<String, Double> map = new HashMap<>();
+        entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+        return map;
+    }
+
+    /**
+     * Send what is left on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,143 @@
+package com.elearning.progress.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.elearning.progress.client.CourseServiceClient;
+import com.elearning.progress.client.CourseServiceClient.CourseStructure;
+import com.elearning.progress.client.EnrollmentServiceClient;
+import com.elearning.progress.client.EnrollmentServiceClient.EnrollmentDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves what a new lesson progress record needs from other services
+ *
+ * Caches enrollment details (enrollmentId -> course, title, student) and
+ * the lesson structure of whole courses, so clicking through the lessons
+ * of a course costs at most one call to each service. Failed lookups are
+ * not cached. Cached structures are revalidated in the background with
+ * their ETag after refresh-after, which costs a 304 while the course is
+ * unchanged.
+ *
+ * When the client passes the course id and neither value is cached, both
+ * lookups run concurrently on virtual threads.
+ */
+@Component
+@Slf4j
+public class LessonContextResolver {
+
+    private final EnrollmentServiceClient enrollmentClient;
+    private final CourseServiceClient courseClient;
+    private final Cache<String, EnrollmentDetails> enrollments;
+    private final LoadingCache<String, CourseStructure> courseStructures;
+
+    public LessonContextResolver(
+            EnrollmentServiceClient enrollmentClient,
+            CourseServiceClient courseClient,
+            MeterRegistry meterRegistry,
+            @Value("${progress.lookup-cache.enrollments.max-size:50000}") long enrollmentsMaxSize,
+            @Value("${progress.lookup-cache.enrollments.ttl:30m}") Duration enrollmentsTtl,
+            @Value("${progress.lookup-cache.course-structures.max-size:2000}") long structuresMaxSize,
+            @Value("${progress.lookup-cache.course-structures.refresh-after:5m}") Duration structuresRefresh,
+            @Value("${progress.lookup-cache.course-structures.expire-after-access:1h}") Duration structuresExpiry) {
+        this.enrollmentClient = enrollmentClient;
+        this.courseClient = courseClient;
+        this.enrollments = Caffeine.newBuilder()
+                .maximumSize(enrollmentsMaxSize)
+                .expireAfterWrite(enrollmentsTtl)
+                .recordStats()
+                .build();
+        this.courseStructures = Caffeine.newBuilder()
+                .maximumSize(structuresMaxSize)
+                .refreshAfterWrite(structuresRefresh)
+                .expireAfterAccess(structuresExpiry)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public CourseStructure load(String courseId) {
+                        return courseClient.getCourseStructure(courseId, null);
+                    }
+
+                    /**
+                     * Revalidate with the cached version - usually a bodiless 304;
+                     * keeps serving the old structure if course-service is unavailable
+                     */
+                    @Override
+                    public CourseStructure reload(String courseId, CourseStructure cached) {
+                        CourseStructure fresh = courseClient.getCourseStructure(courseId, cached);
+                        return fresh != null ? fresh : cached;
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, enrollments, "enrollmentDetails");
+        CaffeineCacheMetrics.monitor(meterRegistry, courseStructures, "courseStructures");
+    }
+
+    /**
+     * Enrollment and course structure for a lesson
+     *
+     * @param enrollmentId enrollment
+     * @param courseIdHint course of the enrollment if known by the client, may be null
+     * @return context; enrollment is null if it could not be found
+     */
+    public LessonContext resolve(String enrollmentId, String courseIdHint) {
+        EnrollmentDetails enrollment = enrollments.getIfPresent(enrollmentId);
+
+        if (enrollment == null && courseIdHint != null && courseStructures.getIfPresent(courseIdHint) == null) {
+            // Both missing - fetch concurrently; the hint is checked against the enrollment below
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                CompletableFuture<EnrollmentDetails> enrollmentFuture =
+                        CompletableFuture.supplyAsync(() -> enrollment(enrollmentId), executor);
+                CompletableFuture.runAsync(() -> courseStructure(courseIdHint), executor);
+                enrollment = enrollmentFuture.join();
+            }
+        } else if (enrollment == null) {
+            enrollment = enrollment(enrollmentId);
+        }
+
+        if (enrollment == null) {
+            return new LessonContext(null, null);
+        }
+        if (courseIdHint != null && !courseIdHint.equals(enrollment.getCourseId())) {
+            log.warn("Course hint {} does not match course {} of enrollment {}",
+                    courseIdHint, enrollment.getCourseId(), enrollmentId);
+        }
+        return new LessonContext(enrollment, courseStructure(enrollment.getCourseId()));
+    }
+
+    /**
+     * Lesson count of a course, from the cached structure
+     *
+     * @return lesson count, null if the structure could not be fetched
+     */
+    public Integer totalLessons(String courseId) {
+        CourseStructure structure = courseStructure(courseId);
+        return structure != null ? structure.getTotalLessons() : null;
+    }
+
+    private EnrollmentDetails enrollment(String enrollmentId) {
+        return enrollments.get(enrollmentId, enrollmentClient::getEnrollmentDetails);
+    }
+
+    private CourseStructure courseStructure(String courseId) {
+        return courseStructures.get(courseId);
+    }
+
+    /**
+     * Enrollment details plus the structure of its course (null if unavailable)
+     */
+    public record LessonContext(EnrollmentDetails enrollment, CourseStructure courseStructure) {
+    }
+}
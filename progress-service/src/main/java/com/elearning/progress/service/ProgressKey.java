@@ -0,0 +1,8 @@
+package com.elearning.progress.service;
+
+/**
+ * Identity of one lesson progress record - matches the unique
+ * (enrollmentId, moduleIndex, lessonIndex) index on lesson_progress
+ */
+public record ProgressKey(String enrollmentId, int moduleIndex, int lessonIndex) {
+}
@@ -14,7 +14,9 @@ import com.elearning.progress.dto.CourseProgressSummary;
 import com.elearning.progress.dto.LessonProgressResponse;
 import com.elearning.progress.dto.UpdateVideoProgressRequest;
 import com.elearning.progress.model.CompletionStatus;
+import com.elearning.progress.model.EnrollmentProgress;
 import com.elearning.progress.model.LessonProgress;
+import com.elearning.progress.repository.CourseProgressFacets;
 import com.elearning.progress.repository.LessonProgressRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -27,75 +29,133 @@ import lombok.extern.slf4j.Slf4j;
 public class ProgressService {
 
     private final LessonProgressRepository progressRepository;
-    private final EnrollmentServiceClient enrollmentClient;
-    private final CourseServiceClient courseClient;
+    private final LessonContextResolver lessonContextResolver;
+    private final VideoProgressWriteBehind writeBehind;
+    private final EnrollmentProgressSync enrollmentProgressSync;
+    private final EnrollmentProgressRollup rollup;
 
     @CacheEvict(value = "lessonProgress", key = "#request.enrollmentId + '_' + #request.moduleIndex + '_' + #request.lessonIndex")
     public LessonProgressResponse updateVideoProgress(UpdateVideoProgressRequest request, String studentEmail) {
-        log.info("Updating video progress - Enrollment: {}, Watched: {} seconds",
+        log.debug("Updating video progress - Enrollment: {}, Watched: {} seconds",
                 request.getEnrollmentId(), request.getWatchedSeconds());
 
+        ProgressKey key = new ProgressKey(request.getEnrollmentId(), request.getModuleIndex(), request.getLessonIndex());
+
+        // Plain heartbeat on a known record: buffer the position, written by the next flush
+        LessonProgress current = writeBehind.current(key);
+        if (current != null && !changesStatus(current, request.getWatchedSeconds())) {
+            return LessonProgressResponse.fromEntity(writeBehind.record(key, current, request.getWatchedSeconds()));
+        }
+
+        // New record or status transition: write synchronously against the stored document
+        writeBehind.discard(key);
         LessonProgress progress = progressRepository
                 .findByEnrollmentIdAndModuleIndexAndLessonIndex(
                         request.getEnrollmentId(),
                         request.getModuleIndex(),
                         request.getLessonIndex())
                 .orElseGet(() -> createNewProgress(request, studentEmail));
+        CompletionStatus previousStatus = progress.getStatus();
 
         progress.setVideoWatchedSeconds(request.getWatchedSeconds());
         progress.setLastAccessedAt(LocalDateTime.now());
         progress.setUpdatedAt(LocalDateTime.now());
 
+        boolean completedNow = false;
         // AUTO-COMPLETE: Mark as completed when student watches 90%+ of video
-        if (progress.getTotalDurationSeconds() != null &&
-                request.getWatchedSeconds() >= progress.getTotalDurationSeconds() * 0.9) {
+        if (reachesCompletion(progress, request.getWatchedSeconds())) {
 
             if (progress.getStatus() != CompletionStatus.COMPLETED) {
                 progress.setStatus(CompletionStatus.COMPLETED);
                 progress.setCompletedAt(LocalDateTime.now());
-                log.info("Lesson auto-completed - Student '{}' watched 90%+ of video (Module: {}, Lesson: {})",
-                        studentEmail, request.getModuleIndex(), request.getLessonIndex());
-
-                // Update enrollment progress when lesson is completed
-                LessonProgress saved = progressRepository.save(progress);
-                double overallProgress = calculateOverallProgress(request.getEnrollmentId(), saved.getCourseId());
-                enrollmentClient.updateEnrollmentProgress(request.getEnrollmentId(), overallProgress);
-
-                return LessonProgressResponse.fromEntity(saved);
+                completedNow = true;
             }
         } else if (progress.getStatus() == CompletionStatus.NOT_STARTED) {
             progress.setStatus(CompletionStatus.IN_PROGRESS);
             progress.setStartedAt(LocalDateTime.now());
         }
 
-        return LessonProgressResponse.fromEntity(progressRepository.save(progress));
+        boolean statusChanged = progress.getStatus() != previousStatus;
+        if (statusChanged) {
+            rollup.ensureExists(progress);
+        }
+
+        // Conditional on the status read above - an overlapping heartbeat that
+        // already made the transition wins, and the rollup is not counted twice
+        LessonProgress saved = progressRepository.saveIfStatus(progress, previousStatus);
+        if (saved == null) {
+            log.debug("Lesson progress changed concurrently - Enrollment: {}, Module: {}, Lesson: {}",
+                    request.getEnrollmentId(), request.getModuleIndex(), request.getLessonIndex());
+            saved = progressRepository
+                    .findByEnrollmentIdAndModuleIndexAndLessonIndex(
+                            request.getEnrollmentId(),
+                            request.getModuleIndex(),
+                            request.getLessonIndex())
+                    .orElseThrow(() -> new IllegalStateException("Lesson progress not found: " + key));
+            writeBehind.written(key, saved);
+            return LessonProgressResponse.fromEntity(saved);
+        }
+        writeBehind.written(key, saved);
+
+        if (completedNow) {
+            log.info("Lesson auto-completed - Student '{}' watched 90%+ of video (Module: {}, Lesson: {})",
+                    studentEmail, request.getModuleIndex(), request.getLessonIndex());
+
+            // Update enrollment progress when lesson is completed - O(1) from the rollup
+            // Unknown lesson count (course-service down) keeps the stored one
+            Integer totalLessons = lessonContextResolver.totalLessons(saved.getCourseId());
+            EnrollmentProgress enrollmentProgress = rollup.applyStatusChange(saved, previousStatus, totalLessons);
+            if (enrollmentProgress.getTotalLessons() > 0) {
+                enrollmentProgressSync.submit(request.getEnrollmentId(),
+                        enrollmentProgress.completionPercentage());
+            }
+        } else if (statusChanged) {
+            rollup.applyStatusChange(saved, previousStatus, null);
+        }
+        return LessonProgressResponse.fromEntity(saved);
+    }
+
+    /**
+     * Would this heartbeat start or complete the lesson?
+     */
+    private boolean changesStatus(LessonProgress progress, int watchedSeconds) {
+        return progress.getStatus() == CompletionStatus.NOT_STARTED
+                || (progress.getStatus() != CompletionStatus.COMPLETED && reachesCompletion(progress, watchedSeconds));
+    }
+
+    /**
+     * AUTO-COMPLETE threshold: 90%+ of the video watched
+     */
+    private boolean reachesCompletion(LessonProgress progress, int watchedSeconds) {
+        return progress.getTotalDurationSeconds() != null
+                && watchedSeconds >= progress.getTotalDurationSeconds() * 0.9;
     }
 
     @Cacheable(value = "courseProgress", key = "#courseId + '_' + #studentEmail")
     public CourseProgressSummary getCourseProgress(String courseId, String studentEmail) {
         log.info("Getting course progress - Course: {}, Student: {}", courseId, studentEmail);
 
-        List<LessonProgress> progressList = progressRepository
-                .findByCourseIdAndStudentEmailOrderByModuleIndexAscLessonIndexAsc(courseId, studentEmail);
+        // Lesson list and status counts in a single aggregation
+        CourseProgressFacets facets = progressRepository.findCourseProgress(courseId, studentEmail);
+        List<LessonProgress> progressList = facets.getLessons();
+        long completedCount = facets.count(CompletionStatus.COMPLETED);
+        long inProgressCount = facets.count(CompletionStatus.IN_PROGRESS);
 
-        long completedCount = progressRepository.countByCourseIdAndStudentEmailAndStatus(
-                courseId, studentEmail, CompletionStatus.COMPLETED);
-        long inProgressCount = progressRepository.countByCourseIdAndStudentEmailAndStatus(
-                courseId, studentEmail, CompletionStatus.IN_PROGRESS);
+        Integer totalLessons = lessonContextResolver.totalLessons(courseId);
+        boolean totalKnown = totalLessons != null && totalLessons > 0;
 
-        int totalLessons = courseClient.getTotalLessonCount(courseId);
-
-        double percentage = totalLessons > 0 ? (completedCount * 100.0 / totalLessons) : 0.0;
+        double percentage = totalKnown ? Math.min(100.0, completedCount * 100.0 / totalLessons) : 0.0;
 
         // Get course title from progress list or use courseId as fallback
         String courseTitle = "";
         if (!progressList.isEmpty()) {
             courseTitle = progressList.get(0).getCourseTitle();
             
-            // Update enrollment progress when getting course progress summary
-            String enrollmentId = progressList.get(0).getEnrollmentId();
-            enrollmentClient.updateEnrollmentProgress(enrollmentId, percentage);
-            log.info("Updated enrollment '{}' progress to {}%", enrollmentId, percentage);
+            // Sync enrollment progress asynchronously - keeps this read free of remote writes
+            // (not while the lesson count is unknown - 0% is not a real value)
+            if (totalKnown) {
+                enrollmentProgressSync.submit(progressList.get(0).getEnrollmentId(), percentage);
+            }
         } else {
             log.warn("No progress records found for course '{}' and student '{}'. Course title will be empty.",
                     courseId, studentEmail);
@@ -126,17 +186,20 @@ public class ProgressService {
         String enrollmentId;
         Integer moduleIndex;
         Integer lessonIndex;
+        String courseIdHint;
 
         if (request instanceof UpdateVideoProgressRequest videoRequest) {
             enrollmentId = videoRequest.getEnrollmentId();
             moduleIndex = videoRequest.getModuleIndex();
             lessonIndex = videoRequest.getLessonIndex();
+            courseIdHint = videoRequest.getCourseId();
         } else {
             throw new IllegalArgumentException("Unsupported request type");
         }
 
-        // Fetch enrollment details to get courseId and courseTitle
-        EnrollmentServiceClient.EnrollmentDetails enrollment = enrollmentClient.getEnrollmentDetails(enrollmentId);
+        // Enrollment details (courseId, courseTitle) and lesson metadata, both cached
+        LessonContextResolver.LessonContext context = lessonContextResolver.resolve(enrollmentId, courseIdHint);
+        EnrollmentServiceClient.EnrollmentDetails enrollment = context.enrollment();
         if (enrollment == null) {
             log.error("Enrollment not found: {}", enrollmentId);
             throw new IllegalArgumentException("Enrollment not found: " + enrollmentId);
@@ -145,9 +208,9 @@ public class ProgressService {
         String courseId = enrollment.getCourseId();
         String courseTitle = enrollment.getCourseTitle();
 
-        // Fetch lesson details from Course Service
-        CourseServiceClient.LessonDetails lessonDetails = courseClient.getLessonDetails(
-                courseId, moduleIndex, lessonIndex);
+        CourseServiceClient.LessonDetails lessonDetails = context.courseStructure() != null
+                ? context.courseStructure().lesson(moduleIndex, lessonIndex)
+                : null;
 
         String lessonTitle = lessonDetails != null ? lessonDetails.getTitle() : "Unknown Lesson";
         Integer totalDuration = lessonDetails != null ? lessonDetails.getDuration() : null;
@@ -171,16 +234,4 @@ public class ProgressService {
                 .build();
     }
 
-    private double calculateOverallProgress(String enrollmentId, String courseId) {
-        long completedCount = progressRepository
-                .findByEnrollmentIdOrderByModuleIndexAscLessonIndexAsc(enrollmentId)
-                .stream()
-                .filter(p -> p.getStatus() == CompletionStatus.COMPLETED)
-                .count();
-
-        int totalLessons = courseClient.getTotalLessonCount(courseId);
-
-        return totalLessons > 0 ? (completedCount * 100.0 / totalLessons) : 0.0;
-    }
-
 }
@@ -0,0 +1,242 @@
+package com.elearning.progress.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.elearning.progress.model.LessonProgress;
+import com.elearning.progress.repository.LessonProgressRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind stage for video heartbeats
+ *
+ * Keeps the latest known state of recently active lesson progress records
+ * and buffers plain position updates (no status change) in memory. Pending
+ * positions are coalesced per record - only the newest one is written - and
+ * flushed with unordered bulk writes every flush interval, or as soon as a
+ * batch worth of records is pending.
+ *
+ * Only videoWatchedSeconds, lastAccessedAt and updatedAt are written by the
+ * flush, and only over an older updatedAt, so a late flush can never undo a
+ * status transition or move a position back; transitions (start,
+ * completion) are written synchronously by ProgressService.
+ *
+ * A pending position stays in the buffer until its write succeeds, and the
+ * buffer is drained on shutdown. Each flush also moves the last-accessed
+ * lesson of the affected enrollment rollups.
+ */
+@Component
+@Slf4j
+public class VideoProgressWriteBehind {
+
+    private final MongoTemplate mongoTemplate;
+    private final LessonProgressRepository progressRepository;
+    private final EnrollmentProgressRollup rollup;
+    private final int batchSize;
+
+    /** Latest known state per record (persisted or pending) */
+    private final Cache<ProgressKey, LessonProgress> state;
+
+    /** Positions not yet written, newest snapshot per record */
+    private final Map<ProgressKey, LessonProgress> pending = new ConcurrentHashMap<>();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("progress-flush").daemon().factory());
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Counter bufferedHeartbeats;
+    private final Counter directHeartbeats;
+    private final Counter flushedPositions;
+    private final Counter failedPositions;
+    private final Timer flushTimer;
+
+    public VideoProgressWriteBehind(
+            MongoTemplate mongoTemplate,
+            LessonProgressRepository progressRepository,
+            EnrollmentProgressRollup rollup,
+            MeterRegistry meterRegistry,
+            @Value("${progress.write-behind.batch-size:500}") int batchSize,
+            @Value("${progress.write-behind.state-cache.max-size:100000}") long stateMaxSize,
+            @Value("${progress.write-behind.state-cache.ttl:10m}") Duration stateTtl) {
+        this.mongoTemplate = mongoTemplate;
+        this.progressRepository = progressRepository;
+        this.rollup = rollup;
+        this.batchSize = batchSize;
+        this.state = Caffeine.newBuilder()
+                .maximumSize(stateMaxSize)
+                .expireAfterAccess(stateTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, state, "lessonProgressState");
+        meterRegistry.gauge("progress.heartbeats.pending", pending, Map::size);
+        this.bufferedHeartbeats = meterRegistry.counter("progress.heartbeats", "path", "buffered");
+        this.directHeartbeats = meterRegistry.counter("progress.heartbeats", "path", "direct");
+        this.flushedPositions = meterRegistry.counter("progress.heartbeats.flushed");
+        this.failedPositions = meterRegistry.counter("progress.heartbeats.flush.failures");
+        this.flushTimer = meterRegistry.timer("progress.heartbeats.flush");
+
+        log.info("Video progress write-behind enabled: batchSize={}, stateMaxSize={}, stateTtl={}",
+                batchSize, stateMaxSize, stateTtl);
+    }
+
+    /**
+     * Latest known state of a record, loaded from the db on a miss
+     *
+     * @return state, or null if the record does not exist yet
+     */
+    public LessonProgress current(ProgressKey key) {
+        return state.get(key, k -> progressRepository
+                .findByEnrollmentIdAndModuleIndexAndLessonIndex(k.enrollmentId(), k.moduleIndex(), k.lessonIndex())
+                .orElse(null));
+    }
+
+    /**
+     * Buffer a new position for an existing record
+     *
+     * @param key record identity
+     * @param current latest known state, from current(key)
+     * @param watchedSeconds new position
+     * @return new state as it will be persisted
+     */
+    public LessonProgress record(ProgressKey key, LessonProgress current, int watchedSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        LessonProgress next = current.toBuilder()
+                .videoWatchedSeconds(watchedSeconds)
+                .lastAccessedAt(now)
+                .updatedAt(now)
+                .build();
+
+        state.put(key, next);
+        pending.put(key, next);
+        bufferedHeartbeats.increment();
+
+        if (pending.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+        return next;
+    }
+
+    /**
+     * Record state written synchronously by the caller
+     * Drops any older pending position for the record
+     */
+    public void written(ProgressKey key, LessonProgress saved) {
+        pending.remove(key);
+        state.put(key, saved);
+        directHeartbeats.increment();
+    }
+
+    /**
+     * Drop pending position and cached state, e.g. before a synchronous write
+     */
+    public void discard(ProgressKey key) {
+        pending.remove(key);
+        state.invalidate(key);
+    }
+
+    /**
+     * Write pending positions in batches of batch-size
+     */
+    @Scheduled(fixedDelayString = "${progress.write-behind.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<ProgressKey, LessonProgress>> snapshot = new ArrayList<>(pending.entrySet());
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<ProgressKey, LessonProgress>> batch =
+                    snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            flushTimer.record(() -> writeBatch(batch));
+        }
+    }
+
+    /**
+     * Final drain on shutdown
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        log.info("Draining {} pending video positions before shutdown", pending.size());
+        flush();
+    }
+
+    private void writeBatch(List<Map.Entry<ProgressKey, LessonProgress>> batch) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LessonProgress.class);
+        for (Map.Entry<ProgressKey, LessonProgress> entry : batch) {
+            LessonProgress position = entry.getValue();
+            // Never over a newer write, e.g. a completion saved after the snapshot was taken
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(position.getId())
+                            .and("updatedAt").lt(position.getUpdatedAt())),
+                    new Update()
+                            .set("videoWatchedSeconds", position.getVideoWatchedSeconds())
+                            .set("lastAccessedAt", position.getLastAccessedAt())
+                            .set("updatedAt", position.getUpdatedAt()));
+        }
+
+        Set<Integer> failed = new HashSet<>();
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> failed.add(error.getIndex()));
+            log.error("Video position flush: {} of {} writes failed, will retry", failed.size(), batch.size());
+        } catch (RuntimeException e) {
+            failedPositions.increment(batch.size());
+            log.error("Video position flush of {} writes failed, will retry: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        List<LessonProgress> written = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (!failed.contains(i)) {
+                Map.Entry<ProgressKey, LessonProgress> entry = batch.get(i);
+                // Keep the entry if a newer position arrived while writing
+                pending.remove(entry.getKey(), entry.getValue());
+                written.add(entry.getValue());
+            }
+        }
+        flushedPositions.increment(written.size());
+        failedPositions.increment(failed.size());
+
+        try {
+            rollup.recordAccess(written);
+        } catch (RuntimeException e) {
+            // Last-accessed lesson is informational; the next heartbeat moves it again
+            log.warn("Failed to update last accessed lessons: {}", e.getMessage());
+        }
+    }
+}
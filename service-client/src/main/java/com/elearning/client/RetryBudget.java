@@ -0,0 +1,57 @@
+package com.elearning.client;
+
+/**
+ * Retry budget - caps retries at a fraction of the request volume
+ *
+ * Every request deposits budgetRatio tokens, every retry withdraws one.
+ * A floor of minRetriesPerSecond is refilled over time. When a target is
+ * down, all calls fail and the budget runs dry after a few retries, so
+ * retries cannot multiply the load on a struggling service.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxBalance;
+
+    private double balance;
+    private long lastRefillNanos;
+
+    public RetryBudget(double ratio, double minPerSecond) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        // Roughly ten seconds worth of retries can be saved up
+        this.maxBalance = Math.max(1, minPerSecond * 10);
+        this.balance = maxBalance;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Record a first attempt
+     */
+    public synchronized void onRequest() {
+        refill();
+        balance = Math.min(maxBalance, balance + ratio);
+    }
+
+    /**
+     * Take one retry out of the budget
+     *
+     * @return true if the retry may be made
+     */
+    public synchronized boolean tryRetry() {
+        refill();
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        lastRefillNanos = now;
+        balance = Math.min(maxBalance, balance + seconds * minPerSecond);
+    }
+}
@@ -0,0 +1,98 @@
+package com.elearning.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded retries for service-to-service calls
+ *
+ * Retries a call when the connection could not be established (any method -
+ * nothing was sent) and, for idempotent methods only, on I/O errors and
+ * 502/503/504 responses. Each retry needs a token from the shared
+ * RetryBudget. Must be the last interceptor, since it re-runs the execution.
+ */
+@Slf4j
+public class RetryingRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<HttpMethod> IDEMPOTENT = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final RetryBudget budget;
+
+    private final Counter retries;
+    private final Counter budgetExhausted;
+
+    public RetryingRequestInterceptor(ServiceClientProperties.Retry properties, RetryBudget budget,
+            MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, properties.getMaxAttempts());
+        this.backoff = properties.getBackoff();
+        this.budget = budget;
+        this.retries = meterRegistry.counter("http.client.retries", "outcome", "retried");
+        this.budgetExhausted = meterRegistry.counter("http.client.retries", "outcome", "budget_exhausted");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        budget.onRequest();
+        boolean idempotent = IDEMPOTENT.contains(request.getMethod());
+
+        for (int attempt = 1;; attempt++) {
+            boolean last = attempt >= maxAttempts;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                if (last || !idempotent || !isRetryable(response.getStatusCode().value()) || !acquireRetry(request)) {
+                    return response;
+                }
+                log.debug("{} {} returned {}, retrying", request.getMethod(), request.getURI(),
+                        response.getStatusCode().value());
+                response.close();
+            } catch (IOException e) {
+                boolean notSent = e instanceof ConnectException || e instanceof ConnectTimeoutException;
+                if (last || !(idempotent || notSent) || !acquireRetry(request)) {
+                    throw e;
+                }
+                log.debug("{} {} failed ({}), retrying", request.getMethod(), request.getURI(), e.getMessage());
+            }
+            pause(attempt);
+        }
+    }
+
+    private boolean acquireRetry(HttpRequest request) {
+        if (budget.tryRetry()) {
+            retries.increment();
+            return true;
+        }
+        budgetExhausted.increment();
+        log.warn("Retry budget exhausted, not retrying {} {}", request.getMethod(), request.getURI());
+        return false;
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private void pause(int attempt) throws IOException {
+        try {
+            Thread.sleep(backoff.multipliedBy(1L << Math.min(attempt - 1, 10)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to retry", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.elearning.client;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service Client Auto-Configuration
+ *
+ * Every RestTemplate built from the auto-configured RestTemplateBuilder gets
+ * a pooled Apache HttpClient with connect/response timeouts, per-target
+ * connection limits and budgeted retries. Boot's observation support on the
+ * same builder records http.client.requests per URI template, so clients
+ * should pass URI variables instead of concatenating ids into the URL.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ServiceClientProperties.class)
+@Slf4j
+public class ServiceClientAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager serviceClientConnectionManager(ServiceClientProperties properties,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerTarget())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getConnectionTimeToLive()))
+                        .build())
+                .build();
+
+        properties.getTargets().forEach((name, target) -> {
+            if (target.getUrl() != null && target.getMaxConnections() > 0) {
+                HttpHost host = HttpHost.create(URI.create(target.getUrl()));
+                connectionManager.setMaxPerRoute(new HttpRoute(host), target.getMaxConnections());
+                log.info("Service client target '{}' ({}): max {} connections", name, host, target.getMaxConnections());
+            }
+        });
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "service-client")
+                .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient serviceHttpClient(PoolingHttpClientConnectionManager connectionManager,
+            ServiceClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                // Retries are done by RetryingRequestInterceptor, within the budget
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RetryBudget serviceClientRetryBudget(ServiceClientProperties properties) {
+        return new RetryBudget(properties.getRetry().getBudgetRatio(), properties.getRetry().getMinRetriesPerSecond());
+    }
+
+    @Bean
+    public RestTemplateCustomizer serviceClientRestTemplateCustomizer(CloseableHttpClient serviceHttpClient,
+            ServiceClientProperties properties, RetryBudget retryBudget, MeterRegistry meterRegistry) {
+        RetryingRequestInterceptor retries = new RetryingRequestInterceptor(properties.getRetry(), retryBudget,
+                meterRegistry);
+        return restTemplate -> {
+            restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(serviceHttpClient));
+            restTemplate.getInterceptors().add(retries);
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.elearning.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Service-to-service HTTP client settings (prefix: service-client)
+ *
+ * Defaults are sized for calls between services in the same network:
+ * short connect timeout, a response timeout well below the gateway's,
+ * and a small pool per target so one slow service cannot take all of them.
+ */
+@Data
+@ConfigurationProperties(prefix = "service-client")
+public class ServiceClientProperties {
+
+    /** Time to establish a TCP connection */
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /** Time to wait for a response once the request is sent */
+    private Duration responseTimeout = Duration.ofSeconds(3);
+
+    /** Time to wait for a free pooled connection */
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    /** Pooled connections across all targets */
+    private int maxConnections = 100;
+
+    /** Pooled connections per target, unless overridden in targets */
+    private int maxConnectionsPerTarget = 20;
+
+    /** Idle pooled connections are closed after this */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    /** Pooled connections are never reused after this */
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /** Per-target overrides, keyed by a logical name (e.g. course-service) */
+    private Map<String, Target> targets = new LinkedHashMap<>();
+
+    private Retry retry = new Retry();
+
+    @Data
+    public static class Target {
+
+        /** Base URL, scheme://host:port */
+        private String url;
+
+        /** Pooled connections to this target */
+        private int maxConnections;
+    }
+
+    @Data
+    public static class Retry {
+
+        /** Attempts per call, including the first one (1 = no retries) */
+        private int maxAttempts = 2;
+
+        /** Pause before the first retry, doubled for each further one */
+        private Duration backoff = Duration.ofMillis(100);
+
+        /** Retries allowed per request made, e.g. 0.1 = at most 10% extra load */
+        private double budgetRatio = 0.1;
+
+        /** Retries allowed per second regardless of the ratio, so low traffic can still retry */
+        private double minRetriesPerSecond = 5;
+    }
+}
@@ -0,0 +1,78 @@
+package com.elearning.user.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Password Hashing Configuration
+ * 
+ * BCrypt is CPU-bound and slow by design, so hashing runs on dedicated,
+ * bounded worker pools instead of request or common fork-join threads
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    /**
+     * Bulk import hashing pool
+     * 
+     * Fixed thread count, bounded queue; when the queue is full the
+     * submitting thread hashes the row itself (natural backpressure)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bulkHashingExecutor(
+            @Value("${users.bulk-import.hash-threads:4}") int threads) {
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                new CustomizableThreadFactory("bulk-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Login verification pool
+     * 
+     * Fixed thread count, bounded queue; when the queue is full new logins
+     * are rejected immediately (LoginService answers 503) instead of piling
+     * up on Tomcat threads
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService loginVerificationExecutor(
+            @Value("${security.login.verify-threads:4}") int threads,
+            @Value("${security.login.queue-capacity:64}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("login-verify-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Password re-hash pool
+     * 
+     * Cost upgrades after login run here, not on the verification pool, so
+     * they never take capacity from logins. Small, low priority; when full
+     * the re-hash is skipped and retried on the user's next login
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordRehashExecutor(
+            @Value("${security.login.rehash-threads:1}") int threads,
+            @Value("${security.login.rehash-queue-capacity:16}") int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-rehash-");
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
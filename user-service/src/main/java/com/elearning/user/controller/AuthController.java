@@ -2,21 +2,17 @@ package com.elearning.user.controller;
 
 import com.elearning.user.dto.AuthRequest;
 import com.elearning.user.dto.AuthResponse;
-import com.elearning.user.model.User;
 import com.elearning.user.security.JwtService;
-import com.elearning.user.service.UserService;
+import com.elearning.user.service.LoginService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Authentication Controller
@@ -33,9 +29,8 @@ import java.util.Map;
 @Slf4j
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
+    private final LoginService loginService;
     private final JwtService jwtService;
-    private final UserService userService;
 
     /**
      * LOGIN
@@ -43,51 +38,44 @@ public class AuthController {
      * POST /api/users/auth/login
      * 
      * Authenticates user and returns JWT token
+     * Password check runs on the login verification pool; the request
+     * thread is released while BCrypt runs (async response)
+     * 
+     * Response: 200 OK + AuthResponse
+     * 401 Unauthorized on bad credentials
+     * 503 Service Unavailable + Retry-After when too many logins are in flight
      * 
      * @param authRequest Login credentials (email and password)
      * @return JWT token and user info
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest authRequest) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest authRequest) {
         log.info("Login attempt for email: {}", authRequest.getEmail());
 
-        try {
-            // Authenticate user with Spring Security
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            authRequest.getEmail(),
-                            authRequest.getPassword()));
-
-            log.info("Authentication successful for: {}", authRequest.getEmail());
-
-            // Get user details
-            User user = userService.getUserByEmail(authRequest.getEmail())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-            // Generate JWT token with user claims (role, firstName, lastName)
-            Map<String, Object> claims = new HashMap<>();
-            claims.put("role", user.getRole().toString());
-            claims.put("firstName", user.getFirstName());
-            claims.put("lastName", user.getLastName());
-            String token = jwtService.generateToken(claims, user.getEmail());
-
-            // Build response
-            AuthResponse response = AuthResponse.builder()
-                    .token(token)
-                    .userId(user.getId())
-                    .email(user.getEmail())
-                    .firstName(user.getFirstName())
-                    .lastName(user.getLastName())
-                    .role(user.getRole())
-                    .build();
-
-            log.info("JWT token generated for user: {}", user.getEmail());
-            return ResponseEntity.ok(response);
-
-        } catch (BadCredentialsException e) {
-            log.error("Invalid credentials for email: {}", authRequest.getEmail());
-            throw new BadCredentialsException("Invalid email or password");
-        }
+        return loginService.authenticate(authRequest.getEmail(), authRequest.getPassword())
+                .thenApply(user -> {
+                    log.info("Authentication successful for: {}", user.getEmail());
+
+                    // Generate JWT token with user claims (role, firstName, lastName)
+                    Map<String, Object> claims = new HashMap<>();
+                    claims.put("role", user.getRole().toString());
+                    claims.put("firstName", user.getFirstName());
+                    claims.put("lastName", user.getLastName());
+                    String token = jwtService.generateToken(claims, user.getEmail());
+
+                    // Build response
+                    AuthResponse response = AuthResponse.builder()
+                            .token(token)
+                            .userId(user.getId())
+                            .email(user.getEmail())
+                            .firstName(user.getFirstName())
+                            .lastName(user.getLastName())
+                            .role(user.getRole())
+                            .build();
+
+                    log.info("JWT token generated for user: {}", user.getEmail());
+                    return ResponseEntity.ok(response);
+                });
     }
 
     /**
@@ -1,20 +1,30 @@
 package com.elearning.user.controller;
 
+import com.elearning.user.dto.BulkImportResponse;
 import com.elearning.user.dto.UserCreateRequest;
+import com.elearning.user.dto.UserPageResponse;
 import com.elearning.user.dto.UserRegistrationRequest;
 import com.elearning.user.dto.UserResponse;
 import com.elearning.user.exception.UserNotFoundException;
 import com.elearning.user.model.Role;
 import com.elearning.user.model.User;
+import com.elearning.user.service.UserCursor;
+import com.elearning.user.service.UserImportService;
 import com.elearning.user.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,10 +33,12 @@ import java.util.stream.Collectors;
  * Endpoints:
  * - POST /register - Public user registration
  * - POST /create - Create user (admin)
- * - GET / - Get all users
+ * - POST /bulk - Bulk import users from JSON or CSV (admin)
+ * - GET / - Get all users (paginated)
+ * - GET /export - Stream all users as NDJSON (admin)
  * - GET /{id} - Get user by ID
  * - GET /email/{email} - Get user by email
- * - GET /role/{role} - Get users by role
+ * - GET /role/{role} - Get users by role (paginated)
  * - PUT /{id} - Update user
  * - DELETE /{id} - Delete user
  * - PATCH /{id}/disable - Disable user account
@@ -39,7 +51,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     // ========================================
     // PUBLIC ENDPOINTS - No authentication required
@@ -137,32 +153,124 @@ public class UserController {
     }
 
     /**
-     * GET ALL USERS
+     * BULK IMPORT USERS (Admin only)
      * 
-     * GET /api/users
+     * POST /api/users/bulk
+     * Content-Type: application/json
      * 
-     * Response: 200 OK + List<UserResponse>
+     * Request Body: array of create requests
+     * [
+     * { "email": "a@school.edu", "password": "password123",
+     * "firstName": "Ada", "lastName": "Lovelace", "role": "STUDENT" },
+     * ...
+     * ]
      * 
-     * TODO: Add pagination (Page<UserResponse>)
+     * Response: 200 OK + BulkImportResponse (per-row status, rows/sec)
+     * 400 Bad Request if the request exceeds the row limit
      * 
-     * @return List of all users
+     * @param requests Users to create
+     * @return Import report
      */
-    @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        log.info("Get all users request received");
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResponse> bulkImport(@RequestBody List<UserCreateRequest> requests) {
+        log.info("Bulk import request (JSON): {} rows", requests.size());
 
-        List<User> users = userService.getAllUsers();
+        return ResponseEntity.ok(userImportService.importUsers(requests));
+    }
 
-        // Convert List<User> to List<UserResponse>
-        List<UserResponse> response = users.stream()
-                .map(UserResponse::new) // Convert each User to UserResponse
-                .collect(Collectors.toList());
+    /**
+     * BULK IMPORT USERS FROM CSV (Admin only)
+     * 
+     * POST /api/users/bulk
+     * Content-Type: text/csv
+     * 
+     * Request Body:
+     * email,password,firstName,lastName,role
+     * a@school.edu,password123,Ada,Lovelace,STUDENT
+     * 
+     * Response: 200 OK + BulkImportResponse (per-row status, rows/sec)
+     * 400 Bad Request if the CSV is malformed or exceeds the row limit
+     * 
+     * @param csv CSV document with header row
+     * @return Import report
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkImportResponse> bulkImportCsv(@RequestBody String csv) {
+        log.info("Bulk import request (CSV): {} chars", csv.length());
+
+        return ResponseEntity.ok(userImportService.importCsv(csv));
+    }
+
+    /**
+     * GET ALL USERS (paginated)
+     * 
+     * GET /api/users?size=50&cursor=...
+     * 
+     * Keyset pagination on (createdAt, id) - pass nextCursor from the
+     * previous response to get the next page
+     * 
+     * Response: 200 OK + UserPageResponse
+     * 400 Bad Request if the cursor is invalid
+     * 
+     * @param cursor     Opaque cursor from the previous page (optional)
+     * @param size       Page size (default 50, max 500)
+     * @param activeOnly Only enabled users
+     * @return One page of users
+     */
+    @GetMapping
+    public ResponseEntity<UserPageResponse> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
+        log.info("Get all users request received: size={}, activeOnly={}", size, activeOnly);
 
-        log.info("Returning {} users", response.size());
+        UserPageResponse response = getUsersPage(null, activeOnly, cursor, size);
+
+        log.info("Returning {} users", response.getSize());
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * EXPORT USERS (Admin only)
+     * 
+     * GET /api/users/export?role=STUDENT&activeOnly=true
+     * 
+     * Streams every matching user as newline-delimited JSON, one
+     * UserResponse per line, straight from a db cursor - memory use
+     * does not grow with the number of users
+     * 
+     * Response: 200 OK + application/x-ndjson
+     * 
+     * @param role       Role filter (optional)
+     * @param activeOnly Only enabled users
+     * @return NDJSON stream
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
+        log.info("Export users request: role={}, activeOnly={}", role, activeOnly);
+
+        ObjectWriter rowWriter = objectMapper.writerFor(UserResponse.class);
+
+        StreamingResponseBody body = outputStream -> userService.exportUsers(role, activeOnly, user -> {
+            try {
+                outputStream.write(rowWriter.writeValueAsBytes(new UserResponse(user)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * GET USER BY ID
      * 
@@ -217,26 +325,29 @@ public class UserController {
     }
 
     /**
-     * GET USERS BY ROLE
+     * GET USERS BY ROLE (paginated)
      * 
-     * GET /api/users/role/{role}
+     * GET /api/users/role/{role}?size=50&cursor=...&activeOnly=true
      * 
      * Example: GET /api/users/role/STUDENT
      * 
-     * @param role User role (STUDENT, INSTRUCTOR, ADMIN)
-     * @return List of users with that role
+     * @param role       User role (STUDENT, INSTRUCTOR, ADMIN)
+     * @param cursor     Opaque cursor from the previous page (optional)
+     * @param size       Page size (default 50, max 500)
+     * @param activeOnly Only enabled users
+     * @return One page of users with that role
      */
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<UserResponse>> getUsersByRole(@PathVariable Role role) {
+    public ResponseEntity<UserPageResponse> getUsersByRole(
+            @PathVariable Role role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean activeOnly) {
         log.info("Get users by role request: {}", role);
 
-        List<User> users = userService.getUsersByRole(role);
+        UserPageResponse response = getUsersPage(role, activeOnly, cursor, size);
 
-        List<UserResponse> response = users.stream()
-                .map(UserResponse::new)
-                .collect(Collectors.toList());
-
-        log.info("Returning {} users with role {}", response.size(), role);
+        log.info("Returning {} users with role {}", response.getSize(), role);
 
         return ResponseEntity.ok(response);
     }
@@ -331,6 +442,30 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Fetch one extra row to know whether another page exists
+     */
+    private UserPageResponse getUsersPage(Role role, boolean activeOnly, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<User> users = userService.getUsersPage(role, activeOnly, cursor, pageSize + 1);
+        boolean hasNext = users.size() > pageSize;
+        if (hasNext) {
+            users = users.subList(0, pageSize);
+        }
+
+        List<UserResponse> content = users.stream()
+                .map(UserResponse::new)
+                .collect(Collectors.toList());
+
+        return UserPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? UserCursor.of(users.get(users.size() - 1)).encode() : null)
+                .build();
+    }
+
     // ========================================
     // UTILITY ENDPOINTS
     // ========================================
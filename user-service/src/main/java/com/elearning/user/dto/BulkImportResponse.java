@@ -0,0 +1,33 @@
+package com.elearning.user.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Import Response DTO
+ * 
+ * Required BY:
+ * - POST /users/bulk
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResponse {
+
+    private int total;
+    private int created;
+    private int rejected;
+
+    /**
+     * Wall time of the whole import and resulting throughput
+     */
+    private long durationMs;
+    private double rowsPerSecond;
+
+    private List<BulkImportRowResult> results;
+}
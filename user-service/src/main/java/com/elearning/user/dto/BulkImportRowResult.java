@@ -0,0 +1,45 @@
+package com.elearning.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Import Row Result DTO - outcome of one imported row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportRowResult {
+
+    /**
+     * Row outcome
+     */
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE_IN_REQUEST,
+        EMAIL_EXISTS,
+        FAILED
+    }
+
+    /**
+     * 1-based row number in the request (CSV header not counted)
+     */
+    private int row;
+
+    private String email;
+    private Status status;
+
+    /**
+     * ID of the created user (CREATED only)
+     */
+    private Long id;
+
+    /**
+     * Why the row was rejected
+     */
+    private String message;
+}
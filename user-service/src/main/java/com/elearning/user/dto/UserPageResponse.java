@@ -0,0 +1,30 @@
+package com.elearning.user.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User Page Response DTO - one page of a keyset-paginated listing
+ *
+ * Required BY:
+ * - GET /users
+ * - GET /users/role/{role}
+ *
+ * Pass nextCursor back as ?cursor= to get the following page;
+ * it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPageResponse {
+
+    private List<UserResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
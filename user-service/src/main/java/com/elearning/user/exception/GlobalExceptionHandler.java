@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -78,6 +79,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * HANDLE INVALID CURSOR EXCEPTION
+     * 
+     * Returns: 400 Bad Request
+     * 
+     * @param ex      The exception
+     * @param request The web request
+     * @return Error response
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException ex, WebRequest request) {
+
+        log.error("Invalid cursor: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * HANDLE INVALID BULK IMPORT EXCEPTION
+     * 
+     * Returns: 400 Bad Request
+     * 
+     * @param ex      The exception
+     * @param request The web request
+     * @return Error response
+     */
+    @ExceptionHandler(InvalidBulkImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBulkImportException(
+            InvalidBulkImportException ex, WebRequest request) {
+
+        log.error("Bulk import rejected: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * HANDLE VALIDATION ERRORS
      * 
@@ -166,6 +219,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    /**
+     * HANDLE LOGIN CAPACITY EXCEEDED EXCEPTION
+     * 
+     * Login verification pool is full or too slow
+     * Returns: 503 Service Unavailable + Retry-After
+     * 
+     * @param ex      The exception
+     * @param request The web request
+     * @return Error response
+     */
+    @ExceptionHandler(LoginCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleLoginCapacityExceededException(
+            LoginCapacityExceededException ex, WebRequest request) {
+
+        log.warn("Login rejected: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * HANDLE ALL OTHER EXCEPTIONS
      * 
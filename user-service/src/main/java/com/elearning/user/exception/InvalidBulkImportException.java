@@ -0,0 +1,20 @@
+package com.elearning.user.exception;
+
+/**
+ * INVALID BULK IMPORT EXCEPTION
+ * 
+ * Thrown when a bulk import request cannot be processed at all
+ * (unreadable CSV, too many rows). Row-level problems are reported
+ * in the import result instead.
+ */
+public class InvalidBulkImportException extends RuntimeException {
+
+    /**
+     * Constructor with custom message
+     * 
+     * @param message error message
+     */
+    public InvalidBulkImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.elearning.user.exception;
+
+/**
+ * INVALID CURSOR EXCEPTION
+ *
+ * Thrown when a pagination cursor cannot be decoded
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructor with cursor
+     *
+     * @param cursor the rejected cursor
+     */
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,26 @@
+package com.elearning.user.exception;
+
+/**
+ * LOGIN CAPACITY EXCEEDED EXCEPTION
+ * 
+ * Thrown when the login verification pool is saturated or a password
+ * check does not finish in time. Mapped to 503 with Retry-After.
+ */
+public class LoginCapacityExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor with retry hint
+     * 
+     * @param retryAfterSeconds seconds the client should wait before retrying
+     */
+    public LoginCapacityExceededException(long retryAfterSeconds) {
+        super("Too many login attempts in progress, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
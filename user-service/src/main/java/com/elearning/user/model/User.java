@@ -18,7 +18,11 @@ import lombok.NoArgsConstructor;
  */
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset pagination / export order
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_users_role_created_at_id", columnList = "role, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,10 +33,13 @@ public class User {
     /**
      * Primary key - Unique identifier for each user
      * 
+     * Pooled sequence (50 ids per round trip) instead of IDENTITY,
+     * so Hibernate can batch inserts (see resources/db/sync-users-seq.sql)
      */
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -1,22 +1,95 @@
 package com.elearning.user.repository;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.elearning.user.model.User;
 import com.elearning.user.model.Role;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    
+
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-    List<User> findByRole(Role role);
-    List<User> findByRoleAndEnabledTrue(Role role);
     long countByRole(Role role);
-    
-}
\ No newline at end of file
+
+    /**
+     * Replace a password hash, only if it was not changed concurrently
+     * Used to re-hash on login when the BCrypt cost changes
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+
+    /**
+     * Which of these emails are already taken - one query instead of existsByEmail per row
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Keyset pagination - first page in (createdAt, id) order
+     * role = null means all roles; limit comes from Pageable.ofSize
+     */
+    @Query("""
+            SELECT u FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+              AND (:activeOnly = false OR u.enabled = true)
+            ORDER BY u.createdAt ASC, u.id ASC
+            """)
+    List<User> findFirstPage(@Param("role") Role role,
+                             @Param("activeOnly") boolean activeOnly,
+                             Pageable limit);
+
+    /**
+     * Keyset pagination - page after the given (createdAt, id) position
+     * createdAt >= :createdAt keeps the seek on the index, the OR breaks ties by id
+     */
+    @Query("""
+            SELECT u FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+              AND (:activeOnly = false OR u.enabled = true)
+              AND u.createdAt >= :createdAt
+              AND (u.createdAt > :createdAt OR u.id > :id)
+            ORDER BY u.createdAt ASC, u.id ASC
+            """)
+    List<User> findPageAfter(@Param("role") Role role,
+                             @Param("activeOnly") boolean activeOnly,
+                             @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             Pageable limit);
+
+    /**
+     * Forward-only cursor over all matching users for exports
+     * Must be consumed inside a transaction; rows are fetched in batches
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT u FROM User u
+            WHERE (:role IS NULL OR u.role = :role)
+              AND (:activeOnly = false OR u.enabled = true)
+            ORDER BY u.createdAt ASC, u.id ASC
+            """)
+    Stream<User> streamAll(@Param("role") Role role,
+                           @Param("activeOnly") boolean activeOnly);
+
+}
@@ -28,7 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     protected void doFilterInternal(
@@ -58,8 +58,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             //if email exists and user not already authed
             if(userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
 
-                //Load user from db
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                //Load user (cached, falls back to db)
+                UserDetails userDetails = userDetailsCache.get(userEmail);
 
                 //Validate token
                 if(jwtService.validateToken(jwt, userDetails)){
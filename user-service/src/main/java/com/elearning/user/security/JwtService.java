@@ -1,15 +1,15 @@
 package com.elearning.user.security;
 
+import com.elearning.jwt.JwtKeyring;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,14 +23,22 @@ import java.util.function.Function;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtKeyring keyring;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    /**
+     * Fail at startup, not on the first login, if the keyring has no signing key
+     */
+    @PostConstruct
+    void checkSigningKey() {
+        keyring.signingKey();
+    }
+
     /**
      * Extract username (email) from token
      */
@@ -57,10 +65,7 @@ public class JwtService {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignKey())
-                .build()
+        return keyring.parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -98,22 +103,16 @@ public class JwtService {
     /**
      * Create JWT token
      * Updated for JJWT 0.12.x API
+     * Signed with the keyring's active key; kid header names that key
      */
     private String createToken(Map<String, Object> claims, String username) {
         return Jwts.builder()
+                .header().keyId(keyring.activeKeyId()).and()
                 .claims(claims)
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignKey())
+                .signWith(keyring.signingKey())
                 .compact();
     }
-
-    /**
-     * Get signing key from secret
-     */
-    private SecretKey getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,87 @@
+package com.elearning.user.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * UserDetails cache for the JWT filter
+ *
+ * Avoids a database lookup on every authenticated request.
+ * Only used on the stateless JWT path - login still loads from the db,
+ * because Spring Security erases credentials on the UserDetails it
+ * authenticates and that must never happen to a shared cached instance.
+ *
+ * Entries are evicted explicitly when a user changes and expire after
+ * the configured ttl, which bounds how long a disabled user can still
+ * authenticate on instances that did not see the change.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(
+            CustomUserDetailsService userDetailsService,
+            MeterRegistry meterRegistry,
+            @Value("${security.user-details-cache.ttl:60s}") Duration ttl,
+            @Value("${security.user-details-cache.max-size:10000}") long maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+        log.info("UserDetails cache enabled: ttl={}, maxSize={}", ttl, maxSize);
+    }
+
+    /**
+     * Get user details by email, loading from db on a miss
+     *
+     * Unknown and disabled users are never cached
+     */
+    public UserDetails get(String email) {
+        return cache.get(email, userDetailsService::loadUserByUsername);
+    }
+
+    /**
+     * Evict users - after commit when called inside a transaction,
+     * so a concurrent request cannot reload the old row into the cache
+     */
+    public void evict(String... emails) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(emails);
+                }
+            });
+        } else {
+            invalidate(emails);
+        }
+    }
+
+    private void invalidate(String... emails) {
+        for (String email : emails) {
+            if (email != null) {
+                cache.invalidate(email);
+                log.debug("Evicted cached user details: {}", email);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.elearning.user.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.elearning.user.exception.LoginCapacityExceededException;
+import com.elearning.user.model.User;
+import com.elearning.user.repository.UserRepository;
+import com.elearning.user.security.UserDetailsCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Login Service
+ * 
+ * Loads the user once and verifies the password on the bounded login
+ * verification pool, so BCrypt never runs on (and never blocks) Tomcat
+ * request threads. A full pool or a slow check fails fast with 503.
+ * 
+ * Hashes whose cost differs from security.bcrypt.strength are re-hashed
+ * after a successful login, on a separate low-priority pool, so the cost
+ * can be tuned up or down without slowing logins.
+ */
+@Service
+@Slf4j
+public class LoginService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final ExecutorService executor;
+    private final ExecutorService rehashExecutor;
+    private final int strength;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+
+    /**
+     * Compared against when the user does not exist, so unknown emails
+     * take as long as wrong passwords
+     */
+    private final String dummyHash;
+
+    public LoginService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            UserDetailsCache userDetailsCache,
+            @Qualifier("loginVerificationExecutor") ExecutorService executor,
+            @Qualifier("passwordRehashExecutor") ExecutorService rehashExecutor,
+            @Value("${security.bcrypt.strength:10}") int strength,
+            @Value("${security.login.timeout:5s}") Duration timeout,
+            @Value("${security.login.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+        this.executor = executor;
+        this.rehashExecutor = rehashExecutor;
+        this.strength = strength;
+        this.timeout = timeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-timing");
+    }
+
+    /**
+     * Authenticate email and password
+     * 
+     * @param email    login email
+     * @param password raw password
+     * @return future with the authenticated user; completes exceptionally with
+     *         BadCredentialsException or LoginCapacityExceededException
+     */
+    public CompletableFuture<User> authenticate(String email, String password) {
+        User user = userRepository.findByEmail(email)
+                .filter(User::getEnabled)
+                .orElse(null);
+
+        String hash = user != null ? user.getPassword() : dummyHash;
+
+        CompletableFuture<Boolean> check;
+        try {
+            check = CompletableFuture.supplyAsync(() -> passwordEncoder.matches(password, hash), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Login verification pool saturated, rejecting login for: {}", email);
+            return CompletableFuture.failedFuture(new LoginCapacityExceededException(retryAfterSeconds));
+        }
+
+        return check
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((matches, ex) -> {
+                    if (ex != null) {
+                        Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+                        if (cause instanceof TimeoutException) {
+                            log.warn("Password verification timed out for: {}", email);
+                            throw new LoginCapacityExceededException(retryAfterSeconds);
+                        }
+                        throw new CompletionException(cause);
+                    }
+                    if (user == null || !matches) {
+                        log.error("Invalid credentials for email: {}", email);
+                        throw new BadCredentialsException("Invalid email or password");
+                    }
+
+                    rehashIfNeeded(user, password);
+                    return user;
+                });
+    }
+
+    /**
+     * Re-hash with the configured cost if the stored hash uses another one
+     * 
+     * Best effort, off the response path and off the verification pool:
+     * skipped when the re-hash pool is busy, the next successful login tries again
+     */
+    private void rehashIfNeeded(User user, String password) {
+        int cost = costOf(user.getPassword());
+        if (cost < 0 || cost == strength) {
+            return;
+        }
+
+        try {
+            rehashExecutor.execute(() -> {
+                String newHash = passwordEncoder.encode(password);
+                if (userRepository.updatePasswordHash(user.getId(), user.getPassword(), newHash) > 0) {
+                    userDetailsCache.evict(user.getEmail());
+                    log.info("Re-hashed password for user {} (cost {} -> {})", user.getId(), cost, strength);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipping re-hash for user {}, re-hash pool busy", user.getId());
+        }
+    }
+
+    /**
+     * Cost factor of a BCrypt hash ($2a$10$...), -1 if not BCrypt
+     */
+    private static int costOf(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.elearning.user.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.elearning.user.dto.UserCreateRequest;
+import com.elearning.user.exception.InvalidBulkImportException;
+import com.elearning.user.model.Role;
+
+/**
+ * Minimal CSV reader for bulk user import
+ * 
+ * Expects a header row naming the columns (any order, case-insensitive):
+ * email,password,firstName,lastName,role
+ * Fields may be quoted with "..." ("" escapes a quote inside a quoted field)
+ */
+class UserCsvParser {
+
+    private static final List<String> COLUMNS = List.of("email", "password", "firstname", "lastname", "role");
+
+    /**
+     * One data row; error is set when the row could not be converted
+     */
+    record ParsedRow(UserCreateRequest request, String error) {
+    }
+
+    private UserCsvParser() {
+    }
+
+    /**
+     * Parse CSV text into create requests
+     * 
+     * @param csv full CSV document
+     * @return rows in file order (header excluded)
+     * @throws InvalidBulkImportException if the document itself is malformed
+     */
+    static List<ParsedRow> parse(String csv) {
+        List<List<String>> records = readRecords(csv);
+        if (records.isEmpty()) {
+            throw new InvalidBulkImportException("CSV is empty");
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> headerRecord = records.get(0);
+        for (int i = 0; i < headerRecord.size(); i++) {
+            header.put(headerRecord.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : COLUMNS) {
+            if (!header.containsKey(column)) {
+                throw new InvalidBulkImportException("CSV header is missing column: " + column);
+            }
+        }
+
+        List<ParsedRow> rows = new ArrayList<>(records.size() - 1);
+        for (int r = 1; r < records.size(); r++) {
+            List<String> record = records.get(r);
+
+            // Skip blank lines
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            UserCreateRequest request = new UserCreateRequest(
+                    field(record, header, "email"),
+                    field(record, header, "password"),
+                    field(record, header, "firstname"),
+                    field(record, header, "lastname"),
+                    null);
+
+            String role = field(record, header, "role");
+            String error = null;
+            if (role != null) {
+                try {
+                    request.setRole(Role.valueOf(role.toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    error = "Unknown role: " + role;
+                }
+            }
+            rows.add(new ParsedRow(request, error));
+        }
+        return rows;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> header, String column) {
+        int index = header.get(column);
+        if (index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split the document into records of fields, honouring quotes
+     */
+    private static List<List<String>> readRecords(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = csv.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = csv.charAt(i);
+
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < length && csv.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> quoted = true;
+                case ',' -> {
+                    record.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r' -> {
+                    // handled together with \n
+                }
+                case '\n' -> {
+                    record.add(field.toString());
+                    field.setLength(0);
+                    records.add(record);
+                    record = new ArrayList<>();
+                }
+                default -> field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new InvalidBulkImportException("CSV has an unterminated quoted field");
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
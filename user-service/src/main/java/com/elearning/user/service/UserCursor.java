@@ -0,0 +1,66 @@
+package com.elearning.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.elearning.user.exception.InvalidCursorException;
+import com.elearning.user.model.User;
+
+import lombok.Value;
+
+/**
+ * Keyset pagination cursor
+ *
+ * Position of the last user on a page in (createdAt, id) order.
+ * Clients only see the opaque base64url form.
+ */
+@Value
+public class UserCursor {
+
+    LocalDateTime createdAt;
+    Long id;
+
+    /**
+     * Cursor pointing at the given user
+     *
+     * @param user last user of a page
+     * @return cursor
+     */
+    public static UserCursor of(User user) {
+        return new UserCursor(user.getCreatedAt(), user.getId());
+    }
+
+    /**
+     * Encode to opaque token
+     *
+     * @return base64url token
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode opaque token
+     *
+     * @param token base64url token from a previous page
+     * @return cursor
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new UserCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.elearning.user.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.elearning.user.dto.BulkImportResponse;
+import com.elearning.user.dto.BulkImportRowResult;
+import com.elearning.user.dto.BulkImportRowResult.Status;
+import com.elearning.user.dto.UserCreateRequest;
+import com.elearning.user.exception.InvalidBulkImportException;
+import com.elearning.user.model.User;
+import com.elearning.user.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk user import
+ * 
+ * 1. Validate every row, drop duplicates within the request
+ * 2. One set-based query (per 1000 emails) for emails already in the db
+ * 3. Hash passwords in parallel on the bounded bulk hashing pool
+ * 4. Insert in chunks, one transaction per chunk, using JDBC batching
+ * 
+ * A failing chunk only rejects its own rows; earlier chunks stay committed.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ExecutorService hashingExecutor;
+    private final int maxRows;
+    private final int chunkSize;
+
+    public UserImportService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            @Qualifier("bulkHashingExecutor") ExecutorService hashingExecutor,
+            @Value("${users.bulk-import.max-rows:10000}") int maxRows,
+            @Value("${users.bulk-import.chunk-size:50}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.hashingExecutor = hashingExecutor;
+        this.maxRows = maxRows;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Import users from a JSON array
+     * 
+     * @param requests rows to import
+     * @return per-row report
+     */
+    public BulkImportResponse importUsers(List<UserCreateRequest> requests) {
+        return doImport(requests, new String[requests.size()]);
+    }
+
+    /**
+     * Import users from CSV (header row required)
+     * 
+     * @param csv CSV document
+     * @return per-row report
+     * @throws InvalidBulkImportException if the CSV cannot be read
+     */
+    public BulkImportResponse importCsv(String csv) {
+        List<UserCsvParser.ParsedRow> rows = UserCsvParser.parse(csv);
+
+        List<UserCreateRequest> requests = new ArrayList<>(rows.size());
+        String[] conversionErrors = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            requests.add(rows.get(i).request());
+            conversionErrors[i] = rows.get(i).error();
+        }
+        return doImport(requests, conversionErrors);
+    }
+
+    private BulkImportResponse doImport(List<UserCreateRequest> requests, String[] conversionErrors) {
+        if (requests.size() > maxRows) {
+            throw new InvalidBulkImportException(
+                    "Bulk import is limited to " + maxRows + " rows, got " + requests.size());
+        }
+
+        long start = System.nanoTime();
+        log.info("Bulk import started: {} rows", requests.size());
+
+        BulkImportRowResult[] results = new BulkImportRowResult[requests.size()];
+        List<Integer> candidates = validate(requests, conversionErrors, results);
+
+        rejectExistingEmails(requests, candidates, results);
+
+        List<User> users = hashPasswords(requests, candidates);
+        insertInChunks(users, candidates, results);
+
+        long durationNanos = System.nanoTime() - start;
+        int created = (int) Arrays.stream(results).filter(r -> r.getStatus() == Status.CREATED).count();
+        double rowsPerSecond = durationNanos == 0 ? 0 : requests.size() / (durationNanos / 1_000_000_000.0);
+
+        log.info("Bulk import finished: {} rows, {} created in {} ms ({} rows/s)",
+                requests.size(), created, durationNanos / 1_000_000, Math.round(rowsPerSecond));
+
+        return BulkImportResponse.builder()
+                .total(requests.size())
+                .created(created)
+                .rejected(requests.size() - created)
+                .durationMs(durationNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Bean validation + duplicate check within the request
+     * 
+     * @return indexes of rows that are still candidates for insert
+     */
+    private List<Integer> validate(List<UserCreateRequest> requests, String[] conversionErrors,
+            BulkImportRowResult[] results) {
+        List<Integer> candidates = new ArrayList<>(requests.size());
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateRequest request = requests.get(i);
+
+            if (request == null) {
+                results[i] = reject(i, null, Status.INVALID, "Row is empty");
+                continue;
+            }
+
+            String error = conversionErrors[i];
+            if (error == null) {
+                Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    error = violations.stream()
+                            .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                            .collect(Collectors.joining("; "));
+                }
+            }
+            if (error != null) {
+                results[i] = reject(i, request.getEmail(), Status.INVALID, error);
+                continue;
+            }
+
+            if (!seen.add(request.getEmail())) {
+                results[i] = reject(i, request.getEmail(), Status.DUPLICATE_IN_REQUEST,
+                        "Email appears more than once in this import");
+                continue;
+            }
+            candidates.add(i);
+        }
+        return candidates;
+    }
+
+    /**
+     * Set-based existence check instead of one existsByEmail per row
+     */
+    private void rejectExistingEmails(List<UserCreateRequest> requests, List<Integer> candidates,
+            BulkImportRowResult[] results) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> emails = candidates.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, candidates.size()))
+                    .stream()
+                    .map(i -> requests.get(i).getEmail())
+                    .toList();
+            existing.addAll(userRepository.findExistingEmails(emails));
+        }
+
+        candidates.removeIf(i -> {
+            String email = requests.get(i).getEmail();
+            if (existing.contains(email)) {
+                results[i] = reject(i, email, Status.EMAIL_EXISTS, "Email already exists: " + email);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * BCrypt every candidate password on the bounded hashing pool
+     */
+    private List<User> hashPasswords(List<UserCreateRequest> requests, List<Integer> candidates) {
+        List<CompletableFuture<User>> futures = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            UserCreateRequest request = requests.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> User.builder()
+                    .email(request.getEmail())
+                    .password(passwordEncoder.encode(request.getPassword()))
+                    .firstName(request.getFirstName())
+                    .lastName(request.getLastName())
+                    .role(request.getRole())
+                    .enabled(true)
+                    .build(), hashingExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Insert chunk by chunk - each chunk is one transaction and one JDBC batch
+     */
+    private void insertInChunks(List<User> users, List<Integer> candidates, BulkImportRowResult[] results) {
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, users.size());
+            List<User> chunk = users.subList(from, to);
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // Flushed through the repository so constraint violations are translated
+                    userRepository.saveAllAndFlush(chunk);
+                    entityManager.clear();
+                });
+
+                for (int k = from; k < to; k++) {
+                    int row = candidates.get(k);
+                    User user = users.get(k);
+                    results[row] = BulkImportRowResult.builder()
+                            .row(row + 1)
+                            .email(user.getEmail())
+                            .status(Status.CREATED)
+                            .id(user.getId())
+                            .build();
+                }
+            } catch (DataAccessException e) {
+                // e.g. an email inserted concurrently by another request
+                log.error("Bulk import chunk {}-{} failed: {}", from + 1, to, e.getMessage());
+                for (int k = from; k < to; k++) {
+                    int row = candidates.get(k);
+                    results[row] = reject(row, users.get(k).getEmail(), Status.FAILED,
+                            "Insert failed, chunk rolled back: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private static BulkImportRowResult reject(int index, String email, Status status, String message) {
+        return BulkImportRowResult.builder()
+                .row(index + 1)
+                .email(email)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
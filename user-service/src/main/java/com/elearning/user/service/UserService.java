@@ -2,17 +2,23 @@ package com.elearning.user.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.elearning.user.exception.EmailAlreadyExistsException;
+import com.elearning.user.exception.InvalidCursorException;
 import com.elearning.user.exception.UserNotFoundException;
 import com.elearning.user.model.Role;
 import com.elearning.user.model.User;
 import com.elearning.user.repository.UserRepository;
+import com.elearning.user.security.UserDetailsCache;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +34,8 @@ public class UserService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserDetailsCache userDetailsCache;
+  private final EntityManager entityManager;
 
   /**
    * Creat new user
@@ -94,44 +102,48 @@ public class UserService {
   }
 
   /**
-   * Get all users
+   * Get one page of users - keyset pagination on (createdAt, id)
    * 
-   * @return list of all users
-   * 
-   *         TODO: In production will be used pagination!
+   * @param role       role filter, null for all roles
+   * @param activeOnly only enabled users
+   * @param cursor     opaque cursor from the previous page, null for the first page
+   * @param limit      max number of users to return
+   * @return users after the cursor
+   * @throws InvalidCursorException if the cursor is malformed
    */
   @Transactional(readOnly = true)
-  public List<User> getAllUsers() {
-    log.debug("Fetching all users");
-    return userRepository.findAll();
-  }
+  public List<User> getUsersPage(Role role, boolean activeOnly, String cursor, int limit) {
+    log.debug("Fetching users page: role={}, activeOnly={}, limit={}", role, activeOnly, limit);
 
-  /**
-   * Get users by role:
-   * 
-   * TODO: pagination!
-   * 
-   * @param role
-   * @return list of users with role
-   */
-  @Transactional(readOnly = true)
-  public List<User> getUsersByRole(Role role) {
-    log.debug("Fetching all users");
-    return userRepository.findByRole(role);
+    if (cursor == null || cursor.isBlank()) {
+      return userRepository.findFirstPage(role, activeOnly, Pageable.ofSize(limit));
+    }
+
+    UserCursor position = UserCursor.decode(cursor);
+    return userRepository.findPageAfter(role, activeOnly, position.getCreatedAt(), position.getId(),
+        Pageable.ofSize(limit));
   }
 
   /**
-   * Get acitve users by role
+   * Stream all matching users - for exports
    * 
-   * TODO: pagination
+   * Uses a forward-only db cursor and detaches every entity once handed
+   * to the consumer, so memory stays constant regardless of table size
    * 
-   * @param role
-   * @return List of enabled users
+   * @param role       role filter, null for all roles
+   * @param activeOnly only enabled users
+   * @param consumer   receives users in (createdAt, id) order
    */
   @Transactional(readOnly = true)
-  public List<User> getActiveUsersByRole(Role role) {
-    log.debug("Fetching active users by role");
-    return userRepository.findByRoleAndEnabledTrue(role);
+  public void exportUsers(Role role, boolean activeOnly, Consumer<User> consumer) {
+    log.info("Exporting users: role={}, activeOnly={}", role, activeOnly);
+
+    try (Stream<User> users = userRepository.streamAll(role, activeOnly)) {
+      users.forEach(user -> {
+        consumer.accept(user);
+        entityManager.detach(user);
+      });
+    }
   }
 
   /**
@@ -176,11 +188,14 @@ public class UserService {
       return new UserNotFoundException(id);
     });
 
+    String previousEmail = existingUser.getEmail();
+
     existingUser.setFirstName(updatedUser.getFirstName());
     existingUser.setLastName(updatedUser.getLastName());
     existingUser.setEmail(updatedUser.getEmail());
 
     User savedUser = userRepository.save(existingUser);
+    userDetailsCache.evict(previousEmail, savedUser.getEmail());
     log.info("User updated successfully: {}", savedUser.getId());
 
     return savedUser;
@@ -203,7 +218,9 @@ public class UserService {
     String encodedPassword = passwordEncoder.encode(newPassword);
     user.setPassword(encodedPassword);
 
-    return userRepository.save(user);
+    User savedUser = userRepository.save(user);
+    userDetailsCache.evict(savedUser.getEmail());
+    return savedUser;
   }
 
   /**
@@ -223,7 +240,9 @@ public class UserService {
         });
 
     user.setEnabled(enabled);
-    return userRepository.save(user);
+    User savedUser = userRepository.save(user);
+    userDetailsCache.evict(savedUser.getEmail());
+    return savedUser;
 
   }
 
@@ -237,11 +256,11 @@ public class UserService {
   public void deleteUser(Long id) {
     log.warn("Deleteing user with ID: {}", id);
 
-    if (!userRepository.existsById(id)) {
-      throw new UserNotFoundException(id);
-    }
+    User user = userRepository.findById(id)
+        .orElseThrow(() -> new UserNotFoundException(id));
 
-    userRepository.deleteById(id);
+    userRepository.delete(user);
+    userDetailsCache.evict(user.getEmail());
     log.info("User deleted: {}", id);
   }
 
@@ -0,0 +1,4 @@
+-- Keep users_seq ahead of existing ids.
+-- Rows inserted while users.id was an IDENTITY column did not use users_seq;
+-- GREATEST never moves the sequence backwards on later restarts.
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users) + 50, (SELECT last_value FROM users_seq)), true);